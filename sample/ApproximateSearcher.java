@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>A compiled pattern that can be found in a text with up to a given number of edits.</p>
+ *
+ * <p>A substring of the text matches when its Levenshtein distance to the pattern, as
+ * computed by {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence)},
+ * is at most the maximum number of edits. The text is scanned once with Myers'
+ * bit-vector algorithm, which keeps a column of the edit distance matrix in
+ * 64-bit words, so the cost is one word operation per 64 pattern chars per text char
+ * instead of one per cell.</p>
+ *
+ * <pre>
+ * ApproximateSearcher s = ApproximateSearcher.compile("A7-3319", 1);
+ * s.indexIn("dev A7-3318 ok")  = 4
+ * s.indexIn("dev A7-319 ok")   = 4
+ * s.indexIn("dev B8-4419 ok")  = -1
+ * s.endsIn("dev A7-3319 ok")   = [10, 11, 12]
+ * </pre>
+ *
+ * <p>Instances are immutable and may be shared between threads.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class ApproximateSearcher {
+
+    /**
+     * <p>Compiles a pattern to be found with at most the given number of edits.</p>
+     *
+     * @param pattern  the CharSequence to find, not null
+     * @param maxEdits  the maximum number of inserted, deleted or substituted chars
+     * @return a searcher for the pattern, never null
+     * @throws NullPointerException if {@code pattern} is null
+     * @throws IllegalArgumentException if {@code maxEdits} is negative
+     */
+    public static ApproximateSearcher compile(final CharSequence pattern, final int maxEdits) {
+        Validate.notNull(pattern, "pattern");
+        Validate.isTrue(maxEdits >= 0, "Max edits must not be negative");
+        return new ApproximateSearcher(CharSequenceUtils.toCharArray(pattern), maxEdits);
+    }
+
+    /** The pattern. */
+    private final char[] pattern;
+    /** The maximum number of edits. */
+    private final int maxEdits;
+    /** Maps a char to its row in {@link #peq}, chars past the end or not in the pattern map to row 0. */
+    private final char[] columns;
+    /** Number of 64-bit words per pattern column. */
+    private final int blocks;
+    /** Per char, the bits of the pattern positions holding it, {@code peq[column * blocks + block]}. */
+    private final long[] peq;
+    /** The bit of the last pattern char within the last block. */
+    private final long lastBit;
+
+    private ApproximateSearcher(final char[] pattern, final int maxEdits) {
+        this.pattern = pattern;
+        this.maxEdits = maxEdits;
+        char maxChar = 0;
+        for (final char c : pattern) {
+            if (c > maxChar) {
+                maxChar = c;
+            }
+        }
+        final char[] cols = new char[maxChar + 1];
+        int colCount = 1;
+        for (final char c : pattern) {
+            if (cols[c] == 0) {
+                cols[c] = (char) colCount++;
+            }
+        }
+        this.columns = cols;
+        this.blocks = Math.max(1, (pattern.length + 63) >>> 6);
+        this.peq = new long[colCount * blocks];
+        for (int i = 0; i < pattern.length; i++) {
+            peq[cols[pattern[i]] * blocks + (i >>> 6)] |= 1L << i;
+        }
+        this.lastBit = 1L << (pattern.length - 1);
+    }
+
+    /**
+     * <p>Finds the first approximate match of the pattern in the text.</p>
+     *
+     * <p>This is the smallest index at which a substring within the maximum number of
+     * edits of the pattern starts, as {@link String#indexOf(String)} is for exact matches.
+     * A match ends at most {@code pattern.length() + maxEdits} chars after it starts, so
+     * once the scan finds an end, only the ends that close could belong to a match
+     * starting further left, and each is searched back from for its leftmost start.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return the start index of the first approximate match, -1 if no match or null input
+     */
+    public int indexIn(final CharSequence text) {
+        if (text == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final Scan scan = new Scan();
+        int end = nextEnd(text, scan, 0);
+        if (end < 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final long reach = (long) pattern.length + maxEdits;
+        int best = start(text, end);
+        while (best > 0 && (end = nextEnd(text, scan, end)) >= 0 && end - reach < best) {
+            best = Math.min(best, start(text, end));
+        }
+        return best;
+    }
+
+    /**
+     * <p>Checks if the text contains an approximate match of the pattern.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return {@code true} if there is an approximate match, {@code false} if no match or null input
+     */
+    public boolean containedIn(final CharSequence text) {
+        return text != null && nextEnd(text, new Scan(), 0) >= 0;
+    }
+
+    /**
+     * <p>Finds every index at which an approximate match of the pattern ends.</p>
+     *
+     * <p>An end index is the index after the last char of the match, as for
+     * {@link String#substring(int, int)}. When the maximum number of edits is at least
+     * the pattern length, the empty substring matches and every index is an end.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return the ascending end indexes, an empty array if no match or null input
+     */
+    public int[] endsIn(final CharSequence text) {
+        if (text == null) {
+            return ArrayUtils.EMPTY_INT_ARRAY;
+        }
+        int[] ends = new int[16];
+        int size = 0;
+        final Scan scan = new Scan();
+        int end = nextEnd(text, scan, 0);
+        while (end >= 0) {
+            if (size == ends.length) {
+                ends = Arrays.copyOf(ends, size << 1);
+            }
+            ends[size++] = end;
+            end = nextEnd(text, scan, end);
+        }
+        return Arrays.copyOf(ends, size);
+    }
+
+    /**
+     * The state of a scan, one column of the distance matrix as vertical deltas.
+     */
+    private final class Scan {
+
+        /** Positive vertical deltas per block. */
+        final long[] pv = new long[blocks];
+        /** Negative vertical deltas per block. */
+        final long[] mv = new long[blocks];
+        /** Distance of the whole pattern to the best substring ending at the current index. */
+        int score = pattern.length;
+
+        Scan() {
+            Arrays.fill(pv, -1L);
+        }
+    }
+
+    /**
+     * Advances the scan past the given end index to the next end index of a match.
+     *
+     * @return the next end index after {@code after}, or -1; the first call, with 0, may return 0
+     */
+    private int nextEnd(final CharSequence text, final Scan scan, final int after) {
+        if (pattern.length <= maxEdits) {
+            // the empty substring is close enough, so every index is an end
+            if (after == 0 && scan.score == pattern.length) {
+                scan.score = -1;
+                return 0;
+            }
+            return after < text.length() ? after + 1 : StringUtils.INDEX_NOT_FOUND;
+        }
+        final long[] pv = scan.pv;
+        final long[] mv = scan.mv;
+        final int last = blocks - 1;
+        final int len = text.length();
+        for (int j = after; j < len; j++) {
+            final char c = text.charAt(j);
+            final int base = (c < columns.length ? columns[c] : 0) * blocks;
+            // the top row of the matrix is all zeros, a match may start anywhere
+            int hin = 0;
+            for (int b = 0; b <= last; b++) {
+                long eq = peq[base + b];
+                final long p = pv[b];
+                final long m = mv[b];
+                final long xv = eq | m;
+                if (hin < 0) {
+                    eq |= 1L;
+                }
+                final long xh = (((eq & p) + p) ^ p) | eq;
+                long ph = m | ~(xh | p);
+                long mh = p & xh;
+                final long high = b == last ? lastBit : Long.MIN_VALUE;
+                final int hout = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+                ph <<= 1;
+                mh <<= 1;
+                if (hin < 0) {
+                    mh |= 1L;
+                } else if (hin > 0) {
+                    ph |= 1L;
+                }
+                pv[b] = mh | ~(xv | ph);
+                mv[b] = ph & xv;
+                hin = hout;
+            }
+            scan.score += hin;
+            if (scan.score <= maxEdits) {
+                return j + 1;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds where the leftmost match ending at {@code end} starts, by the distance of the
+     * pattern to each substring ending there, computed right to left.
+     */
+    private int start(final CharSequence text, final int end) {
+        final int m = pattern.length;
+        final int from = (int) Math.max(0, end - (long) m - maxEdits);
+        // row i holds the distance of the last i pattern chars to the text from the current start to end
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int i = 0; i <= m; i++) {
+            prev[i] = i;
+        }
+        // the empty substring matches when the pattern is short enough to delete
+        int best = m <= maxEdits ? end : StringUtils.INDEX_NOT_FOUND;
+        for (int s = end - 1; s >= from; s--) {
+            final char c = text.charAt(s);
+            cur[0] = end - s;
+            for (int i = 1; i <= m; i++) {
+                final int cost = pattern[m - i] == c ? 0 : 1;
+                cur[i] = Math.min(Math.min(cur[i - 1] + 1, prev[i] + 1), prev[i - 1] + cost);
+            }
+            if (cur[m] <= maxEdits) {
+                best = s;
+            }
+            final int[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+/**
+ * <p>Bulk char scans used by {@link StringUtils} for long sequences.</p>
+ *
+ * <p>The only implementation is {@code VectorCharScans}, which is compiled
+ * from the Java 17 sources against the {@code jdk.incubator.vector} module and
+ * compares a full vector of chars per instruction. It is loaded reflectively and
+ * run once on a probe, so that every Vector API call site is linked; when the class,
+ * the module or any method it calls is not available, {@link #forSequence(CharSequence)}
+ * returns {@code null} and callers keep their char by char loops.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+abstract class CharScans {
+
+    /** Finds a given char. */
+    static final int CHAR = 0;
+    /** Finds a char that is not whitespace as defined by {@link Character#isWhitespace(char)}. */
+    static final int NOT_WHITESPACE = 1;
+    /** Finds a char that is whitespace as defined by {@link Character#isWhitespace(char)}. */
+    static final int WHITESPACE = 2;
+    /** Finds a char that is not a digit as defined by {@link Character#isDigit(char)}. */
+    static final int NOT_DIGIT = 3;
+    /** Finds a char that is not ASCII printable as defined by {@link CharUtils#isAsciiPrintable(char)}. */
+    static final int NOT_ASCII_PRINTABLE = 4;
+
+    /**
+     * Sequences shorter than this are not worth copying out, the plain loop is faster.
+     */
+    static final int MIN_LENGTH = 64;
+
+    /** The vectorized scans, or null if the running JDK cannot provide them. */
+    private static final CharScans VECTORIZED = load();
+
+    private static CharScans load() {
+        try {
+            final CharScans scans = (CharScans) Class.forName("org.apache.commons.lang3.VectorCharScans")
+                .getDeclaredConstructor().newInstance();
+            // run every scan once, so an incubator API missing from the running JDK
+            // fails here with a LinkageError rather than in a caller's scan
+            final StringBuilder probe = new StringBuilder(MIN_LENGTH * 4);
+            while (probe.length() < MIN_LENGTH * 4) {
+                probe.append("0 a\u00e9");
+            }
+            for (int kind = CHAR; kind <= NOT_ASCII_PRINTABLE; kind++) {
+                scans.find(probe, 0, kind, 'x');
+            }
+            scans.countMatches(probe, '0');
+            return scans;
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            // not a multi-release runtime, jdk.incubator.vector is not resolved, or it lacks an API
+            return null;
+        }
+    }
+
+    /**
+     * <p>Gets the scans for a sequence if they are both available and worthwhile.</p>
+     *
+     * @param cs  the CharSequence to scan, may be null
+     * @return the vectorized scans, or null to use a char by char loop
+     */
+    static CharScans forSequence(final CharSequence cs) {
+        if (VECTORIZED == null || cs == null || cs.length() < MIN_LENGTH) {
+            return null;
+        }
+        if (cs instanceof String || cs instanceof StringBuilder || cs instanceof StringBuffer) {
+            return VECTORIZED;
+        }
+        return null;
+    }
+
+    /**
+     * <p>Copies chars out of a sequence accepted by {@link #forSequence(CharSequence)}.</p>
+     *
+     * @param cs  the String, StringBuilder or StringBuffer to copy from
+     * @param begin  the index of the first char to copy
+     * @param end  the index after the last char to copy
+     * @param dst  the destination, filled from index 0
+     */
+    static void getChars(final CharSequence cs, final int begin, final int end, final char[] dst) {
+        if (cs instanceof String) {
+            ((String) cs).getChars(begin, end, dst, 0);
+        } else if (cs instanceof StringBuilder) {
+            ((StringBuilder) cs).getChars(begin, end, dst, 0);
+        } else {
+            ((StringBuffer) cs).getChars(begin, end, dst, 0);
+        }
+    }
+
+    /**
+     * <p>Tests a single char the way {@link #find(CharSequence, int, int, char)} does.</p>
+     *
+     * @param kind  one of the kind constants of this class
+     * @param c  the char to test
+     * @param ch  the char to find for {@link #CHAR}, ignored otherwise
+     * @return true if {@code c} is what {@code kind} looks for
+     */
+    static boolean test(final int kind, final char c, final char ch) {
+        switch (kind) {
+        case CHAR:
+            return c == ch;
+        case NOT_WHITESPACE:
+            return !Character.isWhitespace(c);
+        case WHITESPACE:
+            return Character.isWhitespace(c);
+        case NOT_DIGIT:
+            return !Character.isDigit(c);
+        default:
+            return !CharUtils.isAsciiPrintable(c);
+        }
+    }
+
+    /**
+     * <p>Finds the first char of the given kind.</p>
+     *
+     * @param cs  the sequence, accepted by {@link #forSequence(CharSequence)}
+     * @param from  the index to start at, not negative
+     * @param kind  one of the kind constants of this class
+     * @param ch  the char to find for {@link #CHAR}, ignored otherwise
+     * @return the index of the first matching char at or after {@code from}, -1 if none
+     */
+    abstract int find(CharSequence cs, int from, int kind, char ch);
+
+    /**
+     * <p>Counts the occurrences of a char.</p>
+     *
+     * @param cs  the sequence, accepted by {@link #forSequence(CharSequence)}
+     * @param ch  the char to count
+     * @return the number of occurrences
+     */
+    abstract int countMatches(CharSequence cs, char ch);
+
+    boolean containsWhitespace(final CharSequence cs) {
+        return find(cs, 0, WHITESPACE, ' ') >= 0;
+    }
+
+    int indexOf(final CharSequence cs, final char ch, final int from) {
+        return find(cs, from, CHAR, ch);
+    }
+
+    boolean isAsciiPrintable(final CharSequence cs) {
+        return find(cs, 0, NOT_ASCII_PRINTABLE, ' ') < 0;
+    }
+
+    boolean isBlank(final CharSequence cs) {
+        return find(cs, 0, NOT_WHITESPACE, ' ') < 0;
+    }
+
+    boolean isNumeric(final CharSequence cs) {
+        return find(cs, 0, NOT_DIGIT, ' ') < 0;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>A compiled set of characters that answers membership in constant time.</p>
+ *
+ * <p>The set is held as a bitmap over the Basic Multilingual Plane plus a small
+ * sorted array of surrogate pairs. Scanning a text costs one bit test per char
+ * instead of one comparison per char of the set.</p>
+ *
+ * <p>Supplementary characters are matched exactly like
+ * {@link StringUtils#indexOfAny(CharSequence, char...)} and its siblings match
+ * them: a high surrogate in the text only matches if it is followed by the same
+ * char that follows it in the set, unless it is the last char of the set or of
+ * the text.</p>
+ *
+ * <p>Instances are immutable and may be shared between threads.</p>
+ *
+ * <pre>
+ * CharSetMatcher m = CharSetMatcher.compile("abc");
+ * StringUtils.containsOnly("abab", m)  = true
+ * StringUtils.indexOfAnyBut("abz", m)  = 2
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class CharSetMatcher {
+
+    /** Marker for "no high surrogate ends the set". */
+    private static final int NONE = -1;
+
+    /**
+     * <p>Compiles the given chars into a matcher.</p>
+     *
+     * @param chars  the chars of the set, may be null
+     * @return a matcher for the given chars, never null
+     */
+    public static CharSetMatcher compile(final char... chars) {
+        return new CharSetMatcher(chars == null ? ArrayUtils.EMPTY_CHAR_ARRAY : chars);
+    }
+
+    /**
+     * <p>Compiles the chars of the given CharSequence into a matcher.</p>
+     *
+     * @param chars  the chars of the set, may be null
+     * @return a matcher for the given chars, never null
+     */
+    public static CharSetMatcher compile(final CharSequence chars) {
+        return compile(chars == null ? null : CharSequenceUtils.toCharArray(chars));
+    }
+
+    /** One bit per BMP char, including surrogates, that occurs in the set. */
+    private final long[] bits = new long[(Character.MAX_VALUE + 1) >>> 6];
+    /** Sorted high surrogate and following char pairs, packed as {@code high << 16 | next}. */
+    private final int[] pairs;
+    /** The high surrogate that is the last char of the set, or {@link #NONE}. */
+    private final int trailingHigh;
+    /** Whether the set is empty. */
+    private final boolean empty;
+
+    private CharSetMatcher(final char[] chars) {
+        final int last = chars.length - 1;
+        int[] found = new int[chars.length];
+        int count = 0;
+        for (int i = 0; i < chars.length; i++) {
+            final char ch = chars[i];
+            bits[ch >>> 6] |= 1L << ch;
+            if (i < last && Character.isHighSurrogate(ch)) {
+                found[count++] = ch << 16 | chars[i + 1];
+            }
+        }
+        found = Arrays.copyOf(found, count);
+        Arrays.sort(found);
+        this.pairs = found;
+        this.trailingHigh = last >= 0 && Character.isHighSurrogate(chars[last]) ? chars[last] : NONE;
+        this.empty = chars.length == 0;
+    }
+
+    /**
+     * <p>Checks if the given char is in the set.</p>
+     *
+     * @param ch  the char to check
+     * @return true if the char is in the set
+     */
+    public boolean contains(final char ch) {
+        return (bits[ch >>> 6] & 1L << ch) != 0;
+    }
+
+    /**
+     * <p>Checks if the set is empty.</p>
+     *
+     * @return true if the set was compiled from no chars
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * <p>Checks if the char at index {@code i} of the text is matched by the set.</p>
+     *
+     * @param cs  the text, not null
+     * @param i  the index to check
+     * @param matchAtEnd  whether a high surrogate at the end of the text matches
+     *  when it is in the set, as in {@link StringUtils#indexOfAny(CharSequence, char...)},
+     *  or not, as in {@link StringUtils#containsAny(CharSequence, char...)}
+     * @return true if the char at {@code i} matches
+     */
+    boolean matches(final CharSequence cs, final int i, final boolean matchAtEnd) {
+        final char ch = cs.charAt(i);
+        if (!contains(ch)) {
+            return false;
+        }
+        if (!Character.isHighSurrogate(ch) || ch == trailingHigh) {
+            return true;
+        }
+        if (i + 1 == cs.length()) {
+            return matchAtEnd;
+        }
+        return Arrays.binarySearch(pairs, ch << 16 | cs.charAt(i + 1)) >= 0;
+    }
+
+    /**
+     * <p>Finds the first index in the text of any char in the set.</p>
+     *
+     * <p>This is the same result as {@link StringUtils#indexOfAny(CharSequence, char...)}
+     * with the chars this matcher was compiled from.</p>
+     *
+     * @param cs  the CharSequence to check, may be null
+     * @return the index of any of the chars, -1 if no match or null input
+     */
+    public int indexIn(final CharSequence cs) {
+        if (StringUtils.isEmpty(cs) || empty) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final int csLen = cs.length();
+        for (int i = 0; i < csLen; i++) {
+            if (matches(cs, i, true)) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Finds the first index in the text of a char that is not in the set.</p>
+     *
+     * <p>This is the same result as {@link StringUtils#indexOfAnyBut(CharSequence, char...)}
+     * with the chars this matcher was compiled from.</p>
+     *
+     * @param cs  the CharSequence to check, may be null
+     * @return the index of the first char not in the set, -1 if none or null input
+     */
+    public int indexNotIn(final CharSequence cs) {
+        if (StringUtils.isEmpty(cs) || empty) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final int csLen = cs.length();
+        for (int i = 0; i < csLen; i++) {
+            if (!matches(cs, i, true)) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Checks if the text contains any char in the set.</p>
+     *
+     * <p>This is the same result as {@link StringUtils#containsAny(CharSequence, char...)}
+     * with the chars this matcher was compiled from.</p>
+     *
+     * @param cs  the CharSequence to check, may be null
+     * @return true if any of the chars is found, false if no match or null input
+     */
+    public boolean containedIn(final CharSequence cs) {
+        if (StringUtils.isEmpty(cs) || empty) {
+            return false;
+        }
+        final int csLen = cs.length();
+        for (int i = 0; i < csLen; i++) {
+            if (matches(cs, i, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
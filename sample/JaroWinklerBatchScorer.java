@@ -0,0 +1,461 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Jaro Winkler similarity of one query against many candidates, in time linear in their lengths.</p>
+ *
+ * <p>{@link StringUtils#getJaroWinklerDistance(CharSequence, CharSequence)} looks for the
+ * match of each char of the shorter input by scanning a window of half the longer one,
+ * which is quadratic on long strings. Here the positions of the longer input are grouped
+ * by char, and as the window only moves forward, the match of each char is the next
+ * unmatched position of that char, found by advancing one pointer per char. The
+ * positions of the query are grouped once, those of a longer candidate as it is scored,
+ * into buffers reused from one candidate to the next.</p>
+ *
+ * <p>Scores are those of {@code getJaroWinklerDistance(query, candidate)}, rounded to two
+ * decimals, or unrounded from the {@code raw} methods. Given a threshold, a candidate is
+ * abandoned as soon as too many chars go unmatched for it to be reached, as in
+ * {@link JaroWinklerScorer#distance(CharSequence, CharSequence, double)}.</p>
+ *
+ * <pre>
+ * JaroWinklerBatchScorer scorer = new JaroWinklerBatchScorer("hello");
+ * scorer.distance("hallo")                         = 0.88
+ * scorer.rawDistance("hallo")                      = 0.88
+ * scorer.distances("hallo", "help", "yellow")      = [0.88, 0.85, 0.82]
+ * scorer.best(2, "hallo", "help", "yellow")        = [0, 1]
+ * scorer.distance("help", 0.92)                    = -1.0
+ * </pre>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.11
+ */
+public final class JaroWinklerBatchScorer {
+
+    /** The query. */
+    private final String query;
+    /** Positions of the query's chars. */
+    private final CharPositions queryPositions = new CharPositions();
+    /** Positions of the chars of the last candidate longer than the query. */
+    private final CharPositions candidatePositions = new CharPositions();
+    /** Whether each char of the query is matched. */
+    private boolean[] queryFlags;
+    /** Whether each char of the candidate is matched. */
+    private boolean[] candidateFlags = new boolean[16];
+    /** Next unmatched position per char of the longer input, as an index into its positions. */
+    private int[] next = new int[16];
+
+    /**
+     * <p>Prepares a query for scoring.</p>
+     *
+     * @param query  the CharSequence to compare candidates with, not null
+     * @throws NullPointerException if {@code query} is null
+     */
+    public JaroWinklerBatchScorer(final CharSequence query) {
+        Validate.notNull(query, "query");
+        this.query = query.toString();
+        queryPositions.group(this.query);
+        queryFlags = new boolean[this.query.length()];
+    }
+
+    /**
+     * <p>Gets the query.</p>
+     *
+     * @return the query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * <p>Finds the Jaro Winkler similarity of the query and a candidate, rounded to two decimals.</p>
+     *
+     * @param candidate  the CharSequence to score, not null
+     * @return the similarity from 0.0 to 1.0
+     * @throws NullPointerException if {@code candidate} is null
+     * @see StringUtils#getJaroWinklerDistance(CharSequence, CharSequence)
+     */
+    public double distance(final CharSequence candidate) {
+        return JaroWinklerScorer.round(rawDistance(candidate));
+    }
+
+    /**
+     * <p>Finds the Jaro Winkler similarity of the query and a candidate, rounded to two decimals,
+     * if it is at least a threshold.</p>
+     *
+     * @param candidate  the CharSequence to score, not null
+     * @param threshold  the least similarity of interest, from 0.0 to 1.0
+     * @return the similarity, or -1.0 if it is less than the threshold
+     * @throws NullPointerException if {@code candidate} is null
+     * @throws IllegalArgumentException if {@code threshold} is not from 0.0 to 1.0
+     * @see StringUtils#getJaroWinklerDistance(CharSequence, CharSequence, double)
+     */
+    public double distance(final CharSequence candidate, final double threshold) {
+        Objects.requireNonNull(candidate, "candidate");
+        Validate.isTrue(threshold >= 0D && threshold <= 1D, "Threshold must be from 0 to 1: %s", threshold);
+        if (threshold == 0D) {
+            return distance(candidate);
+        }
+        final int length = candidate.length();
+        final int misses = JaroWinklerScorer.allowedMisses(
+            JaroWinklerScorer.prefix(query, candidate, Math.min(query.length(), length)), query.length(), length,
+            threshold);
+        if (misses < 0) {
+            return -1D;
+        }
+        final double similarity = JaroWinklerScorer.round(score(candidate, misses));
+        return similarity >= threshold ? similarity : -1D;
+    }
+
+    /**
+     * <p>Finds the Jaro Winkler similarity of the query and a candidate, unrounded.</p>
+     *
+     * @param candidate  the CharSequence to score, not null
+     * @return the similarity from 0.0 to 1.0
+     * @throws NullPointerException if {@code candidate} is null
+     */
+    public double rawDistance(final CharSequence candidate) {
+        Objects.requireNonNull(candidate, "candidate");
+        return score(candidate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Computes the unrounded similarity, or -1 once more than {@code maxMisses} chars of
+     * the shorter input have no match.
+     */
+    private double score(final CharSequence candidate, final int maxMisses) {
+        final int length = candidate.length();
+        if (candidateFlags.length < length) {
+            candidateFlags = new boolean[Math.max(length, candidateFlags.length << 1)];
+        }
+        Arrays.fill(queryFlags, false);
+        Arrays.fill(candidateFlags, 0, length, false);
+        // the longer input is searched, the candidate when lengths are equal as in StringUtils
+        final boolean queryLonger = query.length() > length;
+        final int matches;
+        if (queryLonger) {
+            matches = match(candidate, candidateFlags, query, queryFlags, queryPositions, maxMisses);
+        } else {
+            candidatePositions.group(candidate);
+            matches = match(query, queryFlags, candidate, candidateFlags, candidatePositions, maxMisses);
+        }
+        if (matches <= 0) {
+            return matches;
+        }
+        final int transpositions = queryLonger ? transpositions(candidate, candidateFlags, query, queryFlags)
+            : transpositions(query, queryFlags, candidate, candidateFlags);
+        return JaroWinklerScorer.winkler(JaroWinklerScorer.jaro(matches, transpositions, query.length(), length),
+            query, candidate);
+    }
+
+    /**
+     * <p>Finds the Jaro Winkler similarity of the query and each candidate, rounded to two decimals.</p>
+     *
+     * @param candidates  the CharSequences to score, not null and without null elements
+     * @return the similarity of each candidate, in order
+     * @throws NullPointerException if {@code candidates} or any of them is null
+     */
+    public double[] distances(final CharSequence... candidates) {
+        final double[] scores = rawDistances(candidates);
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = JaroWinklerScorer.round(scores[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * <p>Finds the Jaro Winkler similarity of the query and each candidate, unrounded.</p>
+     *
+     * @param candidates  the CharSequences to score, not null and without null elements
+     * @return the similarity of each candidate, in order
+     * @throws NullPointerException if {@code candidates} or any of them is null
+     */
+    public double[] rawDistances(final CharSequence... candidates) {
+        Validate.notNull(candidates, "candidates");
+        final double[] scores = new double[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            scores[i] = rawDistance(candidates[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * <p>Finds the candidates most similar to the query.</p>
+     *
+     * <p>Candidates are ranked by unrounded similarity, those equally similar by index.</p>
+     *
+     * @param count  the most candidates to return, not negative
+     * @param candidates  the CharSequences to score, not null and without null elements
+     * @return the indices of the most similar candidates, most similar first
+     * @throws NullPointerException if {@code candidates} or any of them is null
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public int[] best(final int count, final CharSequence... candidates) {
+        Validate.isTrue(count >= 0, "Count must not be negative");
+        final double[] scores = rawDistances(candidates);
+        // min heap of the best so far, the least similar on top
+        final int[] heap = new int[Math.min(count, scores.length)];
+        int size = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (size < heap.length) {
+                heap[size] = i;
+                siftUp(heap, size++, scores);
+            } else if (size > 0 && better(i, heap[0], scores)) {
+                heap[0] = i;
+                siftDown(heap, size, scores);
+            }
+        }
+        // pop the least similar to the back
+        for (int end = size - 1; end > 0; end--) {
+            final int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, end, scores);
+        }
+        return heap;
+    }
+
+    private static boolean better(final int a, final int b, final double[] scores) {
+        return scores[a] > scores[b] || scores[a] == scores[b] && a < b;
+    }
+
+    private static void siftUp(final int[] heap, int i, final double[] scores) {
+        final int item = heap[i];
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (!better(heap[parent], item, scores)) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = item;
+    }
+
+    private static void siftDown(final int[] heap, final int size, final double[] scores) {
+        final int item = heap[0];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && better(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!better(item, heap[child], scores)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    /**
+     * Flags the chars of the shorter input matched within the window of the longer one and
+     * counts them. Each char is matched to the first unmatched position of the same char in
+     * the window, as by scanning it; as the window only moves forward, that is the position
+     * following the last one matched or skipped for that char. Returns -1 once more than
+     * {@code maxMisses} chars have no match.
+     */
+    private int match(final CharSequence min, final boolean[] minFlags, final CharSequence max,
+        final boolean[] maxFlags, final CharPositions positions, final int maxMisses) {
+        final int maxLength = max.length();
+        final int range = Math.max(maxLength / 2 - 1, 0);
+        final int chars = positions.count;
+        if (next.length < chars) {
+            next = new int[Math.max(chars, next.length << 1)];
+        }
+        System.arraycopy(positions.start, 0, next, 0, chars);
+        final int[] at = positions.positions;
+        int matches = 0;
+        for (int mi = 0; mi < min.length(); mi++) {
+            final int c = positions.indexOf(min.charAt(mi));
+            if (c < 0) {
+                if (mi + 1 - matches > maxMisses) {
+                    return -1;
+                }
+                continue;
+            }
+            final int from = Math.max(mi - range, 0);
+            final int to = Math.min(mi + range + 1, maxLength);
+            final int end = positions.start[c + 1];
+            int p = next[c];
+            while (p < end && at[p] < from) {
+                p++;
+            }
+            if (p < end && at[p] < to) {
+                minFlags[mi] = true;
+                maxFlags[at[p]] = true;
+                matches++;
+                p++;
+            } else if (mi + 1 - matches > maxMisses) {
+                return -1;
+            }
+            next[c] = p;
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the matched chars that differ when both inputs' matches are read in order.
+     */
+    private static int transpositions(final CharSequence min, final boolean[] minFlags, final CharSequence max,
+        final boolean[] maxFlags) {
+        int transpositions = 0;
+        int xi = 0;
+        for (int mi = 0; mi < min.length(); mi++) {
+            if (minFlags[mi]) {
+                while (!maxFlags[xi]) {
+                    xi++;
+                }
+                if (min.charAt(mi) != max.charAt(xi)) {
+                    transpositions++;
+                }
+                xi++;
+            }
+        }
+        return transpositions;
+    }
+
+    /**
+     * The positions of a string's chars, grouped by char in ascending order.
+     */
+    private static final class CharPositions {
+
+        /** Index plus one of each ASCII char, 0 if absent. */
+        private final int[] asciiIndex = new int[128];
+        /** Non-ASCII chars, open addressing. */
+        private char[] keys = new char[16];
+        /** Index plus one per slot of {@link #keys}, 0 if the slot is empty. */
+        private int[] keyIndex = new int[16];
+        /** The distinct chars by index. */
+        private char[] chars = new char[16];
+        /** Number of distinct chars. */
+        int count;
+        /** The positions of char {@code c} are {@code positions[start[c]]} to {@code positions[start[c + 1] - 1]}. */
+        int[] start = new int[17];
+        int[] positions = new int[16];
+        /** Char index per position of the string. */
+        private int[] indices = new int[16];
+
+        /**
+         * Groups the positions of a string's chars, forgetting the previous string.
+         */
+        void group(final CharSequence str) {
+            clear();
+            final int length = str.length();
+            if (positions.length < length) {
+                positions = new int[length];
+                indices = new int[length];
+            }
+            if (keys.length < 2 * length) {
+                final int capacity = Integer.highestOneBit(Math.max(2 * length - 1, 1)) << 1;
+                keys = new char[capacity];
+                keyIndex = new int[capacity];
+            }
+            for (int i = 0; i < length; i++) {
+                final char ch = str.charAt(i);
+                int c = indexOf(ch);
+                if (c < 0) {
+                    c = add(ch);
+                }
+                indices[i] = c;
+            }
+            if (start.length < count + 1) {
+                start = new int[count + 1];
+            }
+            Arrays.fill(start, 0, count + 1, 0);
+            for (int i = 0; i < length; i++) {
+                start[indices[i] + 1]++;
+            }
+            for (int c = 0; c < count; c++) {
+                start[c + 1] += start[c];
+            }
+            // fill each char's positions in ascending order, using the next start as a cursor
+            for (int i = 0; i < length; i++) {
+                positions[start[indices[i]]++] = i;
+            }
+            for (int c = count; c > 0; c--) {
+                start[c] = start[c - 1];
+            }
+            start[0] = 0;
+        }
+
+        /**
+         * Gets the index of a char, -1 if the string does not hold it.
+         */
+        int indexOf(final char ch) {
+            if (ch < 128) {
+                return asciiIndex[ch] - 1;
+            }
+            final int mask = keys.length - 1;
+            int slot = hash(ch) & mask;
+            while (keyIndex[slot] != 0) {
+                if (keys[slot] == ch) {
+                    return keyIndex[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int add(final char ch) {
+            if (count == chars.length) {
+                chars = Arrays.copyOf(chars, count << 1);
+            }
+            chars[count] = ch;
+            if (ch < 128) {
+                asciiIndex[ch] = count + 1;
+            } else {
+                final int mask = keys.length - 1;
+                int slot = hash(ch) & mask;
+                while (keyIndex[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = ch;
+                keyIndex[slot] = count + 1;
+            }
+            return count++;
+        }
+
+        private void clear() {
+            for (int c = 0; c < count; c++) {
+                final char ch = chars[c];
+                if (ch < 128) {
+                    asciiIndex[ch] = 0;
+                } else {
+                    final int mask = keys.length - 1;
+                    int slot = hash(ch) & mask;
+                    while (keys[slot] != ch || keyIndex[slot] == 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keyIndex[slot] = 0;
+                }
+            }
+            count = 0;
+        }
+
+        private static int hash(final char ch) {
+            return (ch * 0x9E3779B1) >>> 16;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A reusable Jaro Winkler calculator that does not allocate per call.</p>
+ *
+ * <p>Computes the same values as {@link StringUtils#getJaroWinklerDistance(CharSequence, CharSequence)},
+ * which now delegates here. The matched chars of both inputs are flagged in buffers the
+ * scorer keeps, grown to the longest input seen, and transpositions are counted by
+ * walking the two sets of flags together instead of copying the matched chars out. A
+ * scorer held per thread or per task compares strings without creating garbage.</p>
+ *
+ * <p>Given a threshold, the similarity is bounded before the chars are matched by
+ * assuming the shorter input is matched in full without transpositions, the common
+ * prefix being known, and every char found without a match lowers that bound. The
+ * comparison is abandoned once the bound is below the threshold.</p>
+ *
+ * <pre>
+ * JaroWinklerScorer scorer = new JaroWinklerScorer();
+ * scorer.distance("frog", "fog")                 = 0.93
+ * scorer.distance("hello", "hallo")              = 0.88
+ * scorer.distance("ABC Corporation", "ABC Corp") = 0.93
+ * scorer.distance("hello", "hallo", 0.85)        = 0.88
+ * scorer.distance("hello", "help", 0.92)         = -1.0
+ * </pre>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.11
+ */
+public final class JaroWinklerScorer {
+
+    /** Weight of each common prefix char, capped by one over the longer length. */
+    private static final double DEFAULT_SCALING_FACTOR = 0.1;
+
+    /** Whether each char of the shorter input is matched. */
+    private boolean[] shortFlags = new boolean[16];
+    /** Whether each char of the longer input is matched. */
+    private boolean[] longFlags = new boolean[16];
+
+    /**
+     * <p>Finds the Jaro Winkler similarity between two CharSequences, rounded to two decimals.</p>
+     *
+     * @param first  the first CharSequence, not null
+     * @param second  the second CharSequence, not null
+     * @return the similarity from 0.0 to 1.0
+     * @throws NullPointerException if either input is null
+     * @see StringUtils#getJaroWinklerDistance(CharSequence, CharSequence)
+     */
+    public double distance(final CharSequence first, final CharSequence second) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(second, "second");
+        final CharSequence max = first.length() > second.length() ? first : second;
+        final CharSequence min = max == first ? second : first;
+        final int matches = match(min, max, min.length());
+        if (matches == 0) {
+            return 0D;
+        }
+        return round(winkler(jaro(matches, transpositions(min, max), first.length(), second.length()), first, second));
+    }
+
+    /**
+     * <p>Finds the Jaro Winkler similarity between two CharSequences, rounded to two decimals,
+     * if it is at least a threshold.</p>
+     *
+     * @param first  the first CharSequence, not null
+     * @param second  the second CharSequence, not null
+     * @param threshold  the least similarity of interest, from 0.0 to 1.0
+     * @return the similarity, or -1.0 if it is less than the threshold
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if {@code threshold} is not from 0.0 to 1.0
+     * @see StringUtils#getJaroWinklerDistance(CharSequence, CharSequence, double)
+     */
+    public double distance(final CharSequence first, final CharSequence second, final double threshold) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(second, "second");
+        Validate.isTrue(threshold >= 0D && threshold <= 1D, "Threshold must be from 0 to 1: %s", threshold);
+        if (threshold == 0D) {
+            return distance(first, second);
+        }
+        final CharSequence max = first.length() > second.length() ? first : second;
+        final CharSequence min = max == first ? second : first;
+        final int misses = allowedMisses(prefix(first, second, min.length()), first.length(), second.length(),
+            threshold);
+        if (misses < 0) {
+            return -1D;
+        }
+        final int matches = match(min, max, misses);
+        if (matches < 0) {
+            return -1D;
+        }
+        final double similarity = round(
+            winkler(jaro(matches, transpositions(min, max), first.length(), second.length()), first, second));
+        return similarity >= threshold ? similarity : -1D;
+    }
+
+    /**
+     * Finds how many chars of the shorter input may go unmatched with the similarity still
+     * reaching a positive threshold, or -1 if it cannot whatever the matches. With
+     * {@code m} matches and a known prefix, the similarity is at most that without
+     * transpositions, which grows with {@code m}.
+     */
+    static int allowedMisses(final int prefix, final int firstLength, final int secondLength,
+        final double threshold) {
+        final int minLength = Math.min(firstLength, secondLength);
+        final int maxLength = Math.max(firstLength, secondLength);
+        int matches = minLength;
+        while (matches > 0) {
+            final double bound = winkler(jaro(matches, 0, firstLength, secondLength), prefix, maxLength);
+            if (round(bound) < threshold) {
+                break;
+            }
+            matches--;
+        }
+        return matches == minLength ? -1 : minLength - matches - 1;
+    }
+
+    /**
+     * Computes the Jaro similarity from the matched and transposed char counts.
+     */
+    static double jaro(final int matches, final int transpositions, final int firstLength, final int secondLength) {
+        final double m = matches;
+        return ((m / firstLength + m / secondLength + (m - transpositions / 2) / m)) / 3;
+    }
+
+    /**
+     * Boosts a Jaro similarity of at least 0.7 by the common prefix of the inputs.
+     */
+    static double winkler(final double jaro, final CharSequence first, final CharSequence second) {
+        if (jaro < 0.7D) {
+            return jaro;
+        }
+        final int minLength = Math.min(first.length(), second.length());
+        return winkler(jaro, prefix(first, second, minLength), Math.max(first.length(), second.length()));
+    }
+
+    /**
+     * Boosts a Jaro similarity of at least 0.7 by a common prefix.
+     */
+    static double winkler(final double jaro, final int prefix, final int maxLength) {
+        if (jaro < 0.7D) {
+            return jaro;
+        }
+        return jaro + Math.min(DEFAULT_SCALING_FACTOR, 1D / maxLength) * prefix * (1D - jaro);
+    }
+
+    /**
+     * Rounds a similarity to two decimals.
+     */
+    static double round(final double similarity) {
+        return Math.round(similarity * 100.0D) / 100.0D;
+    }
+
+    /**
+     * Flags the chars matched within the window and counts them, or returns -1 once more
+     * than {@code maxMisses} chars of the shorter input have none.
+     */
+    private int match(final CharSequence min, final CharSequence max, final int maxMisses) {
+        final int minLength = min.length();
+        final int maxLength = max.length();
+        if (longFlags.length < maxLength) {
+            longFlags = new boolean[Math.max(maxLength, longFlags.length << 1)];
+            shortFlags = new boolean[longFlags.length];
+        }
+        Arrays.fill(shortFlags, 0, minLength, false);
+        Arrays.fill(longFlags, 0, maxLength, false);
+        final int range = Math.max(maxLength / 2 - 1, 0);
+        int matches = 0;
+        for (int mi = 0; mi < minLength; mi++) {
+            final char c1 = min.charAt(mi);
+            for (int xi = Math.max(mi - range, 0), xn = Math.min(mi + range + 1, maxLength); xi < xn; xi++) {
+                if (!longFlags[xi] && c1 == max.charAt(xi)) {
+                    shortFlags[mi] = true;
+                    longFlags[xi] = true;
+                    matches++;
+                    break;
+                }
+            }
+            if (mi + 1 - matches > maxMisses) {
+                return -1;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the matched chars that differ when both inputs' matches are read in order.
+     */
+    private int transpositions(final CharSequence min, final CharSequence max) {
+        int transpositions = 0;
+        int xi = 0;
+        for (int mi = 0; mi < min.length(); mi++) {
+            if (shortFlags[mi]) {
+                while (!longFlags[xi]) {
+                    xi++;
+                }
+                if (min.charAt(mi) != max.charAt(xi)) {
+                    transpositions++;
+                }
+                xi++;
+            }
+        }
+        return transpositions;
+    }
+
+    static int prefix(final CharSequence first, final CharSequence second, final int minLength) {
+        int prefix = 0;
+        while (prefix < minLength && first.charAt(prefix) == second.charAt(prefix)) {
+            prefix++;
+        }
+        return prefix;
+    }
+}
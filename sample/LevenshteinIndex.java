@@ -0,0 +1,556 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>A BK-tree answering which of many strings are within a Levenshtein distance of a query.</p>
+ *
+ * <p>Each record is a node, and hangs below the first node on its path under the edge
+ * labelled with its distance to that node. As the Levenshtein distance is a metric, the
+ * records within {@code k} of a query that sits at distance {@code d} from a node can only
+ * be below the edges labelled {@code d - k} to {@code d + k}, and the other subtrees are
+ * skipped. The distance to a node is computed with the threshold of
+ * {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)}, bounded by
+ * the largest edge below the node, so nodes far from the query are abandoned early.
+ * Before that, a lower bound taken from the chars the query and the record do not have
+ * in common, kept as two 64-bit masks per node, spares computing distances that could
+ * not be within reach. Results are exactly those of a loop over all records.</p>
+ *
+ * <p>Once built, the tree is laid out breadth first in flat arrays rather than as a node
+ * object per record: the children of a node are adjacent and ordered by edge label, and
+ * the chars of all records are packed into a single {@code char[]} in the same order, so
+ * a query reads memory mostly in sequence.</p>
+ *
+ * <pre>
+ * LevenshteinIndex idx = LevenshteinIndex.of("commit", "checkout", "cherry-pick", "clone");
+ * idx.search("comit", 1)   = [0]
+ * idx.search("chekout", 2) = [1]
+ * idx.nearest("clon", 2)   = [3, 0]
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class LevenshteinIndex {
+
+    /** Marks the absence of a node while building. */
+    private static final int NONE = -1;
+
+    /** Queues of subtrees by lower bound in {@link #nearest(CharSequence, int)}, the last taking every larger bound. */
+    private static final int QUEUES = 64;
+
+    /**
+     * <p>Builds an index of records, each getting its position as id.</p>
+     *
+     * @param records  the CharSequences to index, not null and without null elements
+     * @return the index, never null
+     * @throws NullPointerException if {@code records} or any of them is null
+     */
+    public static LevenshteinIndex of(final CharSequence... records) {
+        Validate.notNull(records, "records");
+        return of(Arrays.asList(records));
+    }
+
+    /**
+     * <p>Builds an index of records, each getting its position in iteration order as id.</p>
+     *
+     * @param records  the CharSequences to index, not null and without null elements
+     * @return the index, never null
+     * @throws NullPointerException if {@code records} or any of them is null
+     */
+    public static LevenshteinIndex of(final Collection<? extends CharSequence> records) {
+        Validate.notNull(records, "records");
+        final String[] texts = new String[records.size()];
+        int i = 0;
+        for (final CharSequence record : records) {
+            Validate.notNull(record, "record");
+            texts[i++] = record.toString();
+        }
+        return new LevenshteinIndex(texts);
+    }
+
+    /** The records by id. */
+    private final String[] records;
+    /** Record id per node, nodes being numbered breadth first from the root at 0. */
+    private final int[] ids;
+    /** First child per node, the children of node {@code i} being nodes {@code childStart[i]} to {@code childStart[i + 1] - 1}. */
+    private final int[] childStart;
+    /** Distance from each node to its parent, ascending among siblings. */
+    private final int[] edge;
+    /** Start of each node's chars in {@link #chars}, the last entry being the total. */
+    private final int[] charStart;
+    /** The chars of every node's record, in node order. */
+    private final char[] chars;
+    /** Per node, bit {@code c & 63} is set for every char {@code c} of its record. */
+    private final long[] once;
+    /** Per node, bit {@code c & 63} is set for every char {@code c} found twice in its record. */
+    private final long[] twice;
+
+    private LevenshteinIndex(final String[] records) {
+        final int size = records.length;
+        this.records = records;
+        // insert into a linked tree by record id first
+        final int[] firstChild = new int[size];
+        final int[] nextSibling = new int[size];
+        final int[] label = new int[size];
+        Arrays.fill(firstChild, NONE);
+        Arrays.fill(nextSibling, NONE);
+        final MyersLevenshtein kernel = new MyersLevenshtein();
+        long totalLength = 0;
+        for (int id = 0; id < size; id++) {
+            final String text = records[id];
+            totalLength += text.length();
+            if (id > 0) {
+                insert(id, text, kernel, firstChild, nextSibling, label);
+            }
+        }
+        Validate.isTrue(totalLength <= Integer.MAX_VALUE, "Records too long to index: %d chars", totalLength);
+        // then lay it out breadth first, siblings staying in edge order
+        ids = new int[size];
+        childStart = new int[size + 1];
+        edge = new int[size];
+        charStart = new int[size + 1];
+        chars = new char[(int) totalLength];
+        once = new long[size];
+        twice = new long[size];
+        int filled = size == 0 ? 0 : 1;
+        int offset = 0;
+        for (int node = 0; node < size; node++) {
+            final int id = ids[node];
+            final String text = records[id];
+            text.getChars(0, text.length(), chars, offset);
+            once[node] = once(text);
+            twice[node] = twice(text);
+            charStart[node] = offset;
+            offset += text.length();
+            childStart[node] = filled;
+            for (int child = firstChild[id]; child != NONE; child = nextSibling[child]) {
+                ids[filled] = child;
+                edge[filled++] = label[child];
+            }
+        }
+        childStart[size] = filled;
+        charStart[size] = offset;
+    }
+
+    /**
+     * Hangs a record below the first node on its path without a child at its distance.
+     */
+    private void insert(final int id, final String text, final MyersLevenshtein kernel, final int[] firstChild,
+        final int[] nextSibling, final int[] label) {
+        int node = 0;
+        while (true) {
+            final int d = kernel.distance(text, records[node]);
+            int previous = NONE;
+            int child = firstChild[node];
+            while (child != NONE && label[child] < d) {
+                previous = child;
+                child = nextSibling[child];
+            }
+            if (child != NONE && label[child] == d) {
+                node = child;
+                continue;
+            }
+            label[id] = d;
+            nextSibling[id] = child;
+            if (previous == NONE) {
+                firstChild[node] = id;
+            } else {
+                nextSibling[previous] = id;
+            }
+            return;
+        }
+    }
+
+    /**
+     * <p>Gets a record.</p>
+     *
+     * @param id  the id of the record
+     * @return the record, {@code null} if there is none with that id
+     */
+    public String get(final int id) {
+        return id < 0 || id >= records.length ? null : records[id];
+    }
+
+    /**
+     * <p>Gets the number of records in the index.</p>
+     *
+     * @return the number of records
+     */
+    public int size() {
+        return records.length;
+    }
+
+    /**
+     * <p>Finds the records within a Levenshtein distance of a query.</p>
+     *
+     * @param query  the CharSequence to look up, may be null
+     * @param maxDistance  the greatest distance of interest, not negative
+     * @return the ascending ids of the records within {@code maxDistance}, empty if none or {@code null} input
+     * @throws IllegalArgumentException if {@code maxDistance} is negative
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)
+     */
+    public int[] search(final CharSequence query, final int maxDistance) {
+        Validate.isTrue(maxDistance >= 0, "Distance must not be negative");
+        if (query == null || records.length == 0) {
+            return ArrayUtils.EMPTY_INT_ARRAY;
+        }
+        final long[] found = within(query, maxDistance);
+        final int[] result = new int[found.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) found[i];
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * <p>Finds the records nearest to a query by Levenshtein distance.</p>
+     *
+     * <p>Records at the same distance are ordered by id, so the result is the first
+     * {@code n} records of the whole index sorted by distance then id. The tree is
+     * walked once, best first: every record below a child is as far from its parent
+     * as the child's edge label, so it is at least as far from the query as the
+     * difference between that label and the parent's distance, and the subtree with
+     * the smallest such bound is visited next. The {@code n} nearest records so far
+     * are kept, and once there are {@code n}, the distance of the farthest of them is
+     * the radius beyond which subtrees are skipped, shrinking as closer ones are found.
+     * Bounds being small ints, the subtrees wait in one queue per bound rather than in
+     * a heap. A node whose record is bounded by its chars above the bound of its
+     * subtree has its children queued at once from that bound, and its record queued
+     * for later, by when the radius may well have shrunk past it.</p>
+     *
+     * @param query  the CharSequence to look up, may be null
+     * @param n  the most records to return, not negative
+     * @return the ids of the nearest records, nearest first, empty if none or {@code null} input
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence)
+     */
+    public int[] nearest(final CharSequence query, final int n) {
+        Validate.isTrue(n >= 0, "Count must not be negative");
+        if (query == null || records.length == 0 || n == 0) {
+            return ArrayUtils.EMPTY_INT_ARRAY;
+        }
+        final MyersLevenshtein distances = new MyersLevenshtein();
+        distances.fix(query);
+        final Slice slice = new Slice(chars);
+        final int queryLength = query.length();
+        final long queryOnce = once(query);
+        final long queryTwice = twice(query);
+        // the nearest records so far as distance and id packed in a long, farthest on top
+        final long[] best = new long[Math.min(n, records.length)];
+        int found = 0;
+        int radius = Integer.MAX_VALUE;
+        // the subtrees to visit as lower bound and node packed in a long, queued by bound;
+        // a child's bound is never below its parent's, so the queues are drained in order
+        final long[][] queues = new long[QUEUES][];
+        final int[] queued = new int[QUEUES];
+        queues[0] = new long[16];
+        queued[0] = 1;
+        for (int queue = 0; queue < QUEUES && queue <= radius; queue++) {
+            while (queued[queue] > 0) {
+                final long next = queues[queue][--queued[queue]];
+                final int bound = (int) (next >>> 32);
+                if (bound > radius) {
+                    continue;
+                }
+                final int item = (int) next;
+                if (item < 0) {
+                    // the record of a node whose children are queued already, as its complement
+                    final int node = ~item;
+                    if (found == best.length && ((long) bound << 32 | ids[node]) > best[0]) {
+                        continue;
+                    }
+                    slice.select(charStart[node], charStart[node + 1]);
+                    final int d = distances.distanceFromFixed(slice, radius);
+                    if (d >= 0) {
+                        found = offer(best, found, (long) d << 32 | ids[node]);
+                        if (found == best.length) {
+                            radius = (int) (best[0] >>> 32);
+                        }
+                    }
+                    continue;
+                }
+                final int node = item;
+                final int from = childStart[node];
+                final int to = childStart[node + 1];
+                // beyond the largest edge plus the radius, no child is worth visiting either
+                final int limit = from == to ? radius : add(edge[to - 1], radius);
+                final int length = charStart[node + 1] - charStart[node];
+                // the distance to the node lies between low and high
+                int low = lowerBound(queryLength, queryOnce, queryTwice, length, once[node], twice[node]);
+                int high = Math.max(queryLength, length);
+                if (low > limit) {
+                    continue;
+                }
+                if (low > bound) {
+                    // the record waits for the queue of its own bound, by when the radius may have shrunk
+                    enqueue(queues, queued, low, ~node);
+                } else {
+                    slice.select(charStart[node], charStart[node + 1]);
+                    low = distances.distanceFromFixed(slice, limit);
+                    if (low < 0) {
+                        continue;
+                    }
+                    high = low;
+                    found = offer(best, found, (long) low << 32 | ids[node]);
+                    if (found == best.length) {
+                        radius = (int) (best[0] >>> 32);
+                    }
+                }
+                final int highest = add(high, radius);
+                int child = from;
+                while (child < to && edge[child] < low - radius) {
+                    child++;
+                }
+                for (; child < to && edge[child] <= highest; child++) {
+                    enqueue(queues, queued, Math.max(bound, Math.max(low - edge[child], edge[child] - high)), child);
+                }
+            }
+        }
+        Arrays.sort(best, 0, found);
+        final int[] result = new int[found];
+        for (int i = 0; i < found; i++) {
+            result[i] = (int) best[i];
+        }
+        return result;
+    }
+
+    /**
+     * Adds an item to the queue of its lower bound, packed as bound and item in a long.
+     */
+    private static void enqueue(final long[][] queues, final int[] queued, final int bound, final int item) {
+        final int target = Math.min(bound, QUEUES - 1);
+        long[] items = queues[target];
+        if (items == null) {
+            items = new long[16];
+            queues[target] = items;
+        } else if (queued[target] == items.length) {
+            items = Arrays.copyOf(items, items.length << 1);
+            queues[target] = items;
+        }
+        items[queued[target]++] = (long) bound << 32 | item & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Adds a candidate to a max-heap of the nearest records, or puts it in place of the
+     * top if the heap is full and the candidate is nearer.
+     *
+     * @return the new number of records in the heap
+     */
+    private static int offer(final long[] best, final int found, final long candidate) {
+        if (found < best.length) {
+            best[found] = candidate;
+            siftUp(best, found);
+            return found + 1;
+        }
+        if (candidate < best[0]) {
+            best[0] = candidate;
+            siftDown(best, found);
+        }
+        return found;
+    }
+
+    /**
+     * Moves the last item of a binary max-heap of longs up to its place.
+     */
+    private static void siftUp(final long[] heap, final int index) {
+        final long item = heap[index];
+        int i = index;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (heap[parent] >= item) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = item;
+    }
+
+    /**
+     * Moves the top item of a binary max-heap of longs down to its place.
+     */
+    private static void siftDown(final long[] heap, final int size) {
+        final long item = heap[0];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= item) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    /**
+     * Finds the records within a radius of a query.
+     *
+     * @return the distance and id of each, packed in a long
+     */
+    private long[] within(final CharSequence query, final int radius) {
+        final MyersLevenshtein distances = new MyersLevenshtein();
+        distances.fix(query);
+        final Slice slice = new Slice(chars);
+        final int queryLength = query.length();
+        final long queryOnce = once(query);
+        final long queryTwice = twice(query);
+        long[] found = new long[16];
+        int count = 0;
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            final int from = childStart[node];
+            final int to = childStart[node + 1];
+            // beyond the largest edge plus the radius, no child is worth visiting either
+            final int limit = from == to ? radius : add(edge[to - 1], radius);
+            final int length = charStart[node + 1] - charStart[node];
+            // the distance to the node lies between low and high, computed only if it may be in the radius
+            int low = lowerBound(queryLength, queryOnce, queryTwice, length, once[node], twice[node]);
+            int high = Math.max(queryLength, length);
+            if (low > limit) {
+                continue;
+            }
+            if (low <= radius) {
+                slice.select(charStart[node], charStart[node + 1]);
+                low = distances.distanceFromFixed(slice, limit);
+                if (low < 0) {
+                    continue;
+                }
+                high = low;
+                if (low <= radius) {
+                    if (count == found.length) {
+                        found = Arrays.copyOf(found, count << 1);
+                    }
+                    found[count++] = (long) low << 32 | ids[node];
+                }
+            }
+            final int highest = add(high, radius);
+            int child = from;
+            while (child < to && edge[child] < low - radius) {
+                child++;
+            }
+            for (; child < to && edge[child] <= highest; child++) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top << 1);
+                }
+                stack[top++] = child;
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Bounds the Levenshtein distance between two strings from below. Every char of the
+     * longer one that has no equal in the other takes an edit. Telling chars apart by
+     * their value modulo 64, the chars they have in common are at most the values both
+     * have, plus the values both have twice, plus the fewer of either's chars beyond the
+     * second of their value.
+     */
+    private static int lowerBound(final int length, final long once, final long twice, final int otherLength,
+        final long otherOnce, final long otherTwice) {
+        final int rest = length - Long.bitCount(once) - Long.bitCount(twice);
+        final int otherRest = otherLength - Long.bitCount(otherOnce) - Long.bitCount(otherTwice);
+        final int common = Long.bitCount(once & otherOnce) + Long.bitCount(twice & otherTwice)
+            + Math.min(rest, otherRest);
+        return Math.max(length, otherLength) - common;
+    }
+
+    /**
+     * Gets the bits {@code c & 63} of the chars {@code c} of a string.
+     */
+    private static long once(final CharSequence text) {
+        long bits = 0;
+        for (int i = 0; i < text.length(); i++) {
+            bits |= 1L << (text.charAt(i) & 63);
+        }
+        return bits;
+    }
+
+    /**
+     * Gets the bits {@code c & 63} of the chars {@code c} found twice in a string.
+     */
+    private static long twice(final CharSequence text) {
+        long seen = 0;
+        long bits = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final long bit = 1L << (text.charAt(i) & 63);
+            bits |= seen & bit;
+            seen |= bit;
+        }
+        return bits;
+    }
+
+    /**
+     * Adds two non-negative ints, saturating at {@link Integer#MAX_VALUE}.
+     */
+    private static int add(final int a, final int b) {
+        return a > Integer.MAX_VALUE - b ? Integer.MAX_VALUE : a + b;
+    }
+
+    /**
+     * A window on the packed chars, moved from node to node without allocating.
+     */
+    private static final class Slice implements CharSequence {
+
+        private final char[] chars;
+        private int start;
+        private int length;
+
+        Slice(final char[] chars) {
+            this.chars = chars;
+        }
+
+        void select(final int from, final int to) {
+            start = from;
+            length = to - from;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return chars[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int to) {
+            return new String(chars, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start, length);
+        }
+    }
+}
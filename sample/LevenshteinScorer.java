@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Objects;
+
+/**
+ * <p>A reusable Levenshtein distance calculator that does not allocate per call.</p>
+ *
+ * <p>Computes the same values as {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence)}
+ * and {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)}. Those
+ * allocate their tables on every call. A scorer keeps its tables, grown to the longest
+ * input seen, so a scorer held per thread or per task compares strings without creating
+ * garbage. A common prefix and suffix are skipped before the distance matrix is
+ * computed, with Myers' bit-vector algorithm.</p>
+ *
+ * <pre>
+ * LevenshteinScorer scorer = new LevenshteinScorer();
+ * scorer.distance("frog", "fog")            = 1
+ * scorer.distance("elephant", "hippo")      = 7
+ * scorer.distance("elephant", "hippo", 6)   = -1
+ * scorer.distance("pump-07-a", "pump-7-a")  = 1
+ * </pre>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.11
+ */
+public final class LevenshteinScorer {
+
+    /** The distance kernel and its tables. */
+    private final MyersLevenshtein kernel = new MyersLevenshtein();
+
+    /**
+     * <p>Finds the Levenshtein distance between two CharSequences.</p>
+     *
+     * @param left  the first CharSequence, not null
+     * @param right  the second CharSequence, not null
+     * @return the number of single char insertions, deletions and substitutions needed
+     * @throws NullPointerException if either input is null
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence)
+     */
+    public int distance(final CharSequence left, final CharSequence right) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        return kernel.distance(left, right);
+    }
+
+    /**
+     * <p>Finds the Levenshtein distance between two CharSequences if it is at most a threshold.</p>
+     *
+     * @param left  the first CharSequence, not null
+     * @param right  the second CharSequence, not null
+     * @param threshold  the greatest distance of interest, not negative
+     * @return the distance, or -1 if it is greater than the threshold
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if {@code threshold} is negative
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)
+     */
+    public int distance(final CharSequence left, final CharSequence right, final int threshold) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        return kernel.distance(left, right, threshold);
+    }
+}
@@ -0,0 +1,1111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>A regular expression that is matched in time linear in the length of the text.</p>
+ *
+ * <p>{@link Pattern} backtracks, and some patterns take exponential time on some
+ * inputs. {@code LinearRegex} compiles the regular subset of the {@code Pattern} syntax
+ * to a program for a Pike VM, which simulates the pattern's nondeterministic automaton
+ * by running every alternative in step, so each text char is examined at most once per
+ * instruction. Alternatives are kept in priority order, which gives the leftmost-first
+ * matches of {@code Pattern}: the match found, and the text removed or replaced, is the
+ * same.</p>
+ *
+ * <p>The subset is literal chars, {@code .}, character classes with ranges and
+ * negation, {@code \d \D \s \S \w \W}, control and hex escapes, capturing and
+ * {@code (?:...)} groups, alternation, greedy and reluctant quantifiers including
+ * bounded repetition, and {@code ^} and {@code $}. A regex using anything else, such as
+ * back references, lookaround, possessive quantifiers, inline flags, or repetition of a
+ * part that can match the empty string, is handed to {@code Pattern} through the
+ * {@link PatternCache#getShared() shared pattern cache}. So is a text with surrogate
+ * chars when the regex has a class that could match one, because {@code Pattern}
+ * matches those by code point.</p>
+ *
+ * <pre>
+ * LinearRegex re = LinearRegex.compile("(a|aa)+b");
+ * re.isLinear()                            = true
+ * re.indexIn("xxaaab")                     = 2
+ * re.removeAll("1aab 2ab 3b")              = "1 2 3b"
+ * re.replaceFirst("ab-aab", "#")           = "#-aab"
+ * LinearRegex.compile("(a)\\1").isLinear() = false
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class LinearRegex {
+
+    /** Most instructions in a program, a regex needing more is handed to {@code Pattern}. */
+    private static final int MAX_PROGRAM = 10000;
+
+    /** Deepest group nesting parsed. */
+    private static final int MAX_DEPTH = 100;
+
+    /** Most bits, one per instruction and text position, remembered as leading to no match. */
+    private static final long MAX_DEAD_BITS = 1L << 27;
+
+    /** Consumes the char in {@code args}. */
+    private static final int CHAR = 0;
+    /** Consumes a char of the class {@code classes[args]}; also a node kind. */
+    private static final int CLASS = 1;
+    /** Continues at {@code args}, or with lower priority at {@code alts}. */
+    private static final int SPLIT = 2;
+    /** Continues at {@code args}. */
+    private static final int JUMP = 3;
+    /** Asserts {@code ^}; also a node kind. */
+    private static final int BEGIN = 4;
+    /** Asserts {@code $}; also a node kind. */
+    private static final int END = 5;
+    /** Reports a match. */
+    private static final int MATCH = 6;
+    /** Node kinds only. */
+    private static final int CONCAT = 7;
+    private static final int ALTERNATE = 8;
+    private static final int REPEAT = 9;
+
+    /**
+     * <p>Compiles a regular expression.</p>
+     *
+     * <p>A regex outside the supported subset still compiles, see {@link #isLinear()}.</p>
+     *
+     * @param regex  the regular expression, not null
+     * @return the compiled regex, never null
+     * @throws NullPointerException if {@code regex} is null
+     * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid
+     */
+    public static LinearRegex compile(final String regex) {
+        Validate.notNull(regex, "regex");
+        LinearRegex compiled;
+        try {
+            compiled = new LinearRegex(regex, new Parser(regex).parse());
+        } catch (final IllegalArgumentException unsupported) {
+            compiled = new LinearRegex(regex);
+            // reports syntax errors now rather than on first use
+            compiled.pattern();
+        }
+        return compiled;
+    }
+
+    /**
+     * Gets a compiled regex from the {@link PatternCache#getShared() shared pattern cache},
+     * for the {@link StringUtils} methods.
+     */
+    static LinearRegex cached(final String regex) {
+        return PatternCache.getShared().linear(regex);
+    }
+
+    /**
+     * A set of chars as sorted, disjoint, inclusive ranges.
+     */
+    private static final class CharClass {
+
+        static final CharClass DIGIT = new CharClass('0', '9');
+        static final CharClass SPACE = new CharClass(' ', ' ', '\t', '\r', '\f', '\f');
+        static final CharClass WORD = new CharClass('0', '9', 'A', 'Z', '_', '_', 'a', 'z');
+        /** What {@code .} matches, everything but the line terminators. */
+        static final CharClass DOT = new CharClass('\n', '\n', '\r', '\r', '\u0085', '\u0085',
+            '\u2028', '\u2029').complement();
+        static final CharClass EMPTY = new CharClass();
+
+        final int[] ranges;
+        /** Membership of chars 0 to 63. */
+        final long low;
+        /** Membership of chars 64 to 127. */
+        final long high;
+
+        CharClass(final int... pairs) {
+            final long[] sorted = new long[pairs.length / 2];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = (long) pairs[2 * i] << 32 | pairs[2 * i + 1];
+            }
+            Arrays.sort(sorted);
+            final int[] merged = new int[pairs.length];
+            int size = 0;
+            for (final long range : sorted) {
+                final int lo = (int) (range >>> 32);
+                final int hi = (int) range;
+                if (size > 0 && lo <= merged[size - 1] + 1) {
+                    merged[size - 1] = Math.max(merged[size - 1], hi);
+                } else {
+                    merged[size++] = lo;
+                    merged[size++] = hi;
+                }
+            }
+            this.ranges = Arrays.copyOf(merged, size);
+            long lowBits = 0;
+            long highBits = 0;
+            for (int c = 0; c < 128; c++) {
+                if (search(c)) {
+                    if (c < 64) {
+                        lowBits |= 1L << c;
+                    } else {
+                        highBits |= 1L << (c - 64);
+                    }
+                }
+            }
+            this.low = lowBits;
+            this.high = highBits;
+        }
+
+        boolean contains(final char c) {
+            if (c < 64) {
+                return (low >>> c & 1) != 0;
+            }
+            if (c < 128) {
+                return (high >>> (c - 64) & 1) != 0;
+            }
+            return search(c);
+        }
+
+        private boolean search(final int c) {
+            int lo = 0;
+            int hi = ranges.length / 2 - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (c < ranges[2 * mid]) {
+                    hi = mid - 1;
+                } else if (c > ranges[2 * mid + 1]) {
+                    lo = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        CharClass complement() {
+            final int[] pairs = new int[ranges.length + 2];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (ranges[i] > next) {
+                    pairs[size++] = next;
+                    pairs[size++] = ranges[i] - 1;
+                }
+                next = ranges[i + 1] + 1;
+            }
+            if (next <= Character.MAX_VALUE) {
+                pairs[size++] = next;
+                pairs[size++] = Character.MAX_VALUE;
+            }
+            return new CharClass(Arrays.copyOf(pairs, size));
+        }
+
+        CharClass union(final CharClass other) {
+            final int[] pairs = Arrays.copyOf(ranges, ranges.length + other.ranges.length);
+            System.arraycopy(other.ranges, 0, pairs, ranges.length, other.ranges.length);
+            return new CharClass(pairs);
+        }
+
+        boolean isSingle() {
+            return ranges.length == 2 && ranges[0] == ranges[1];
+        }
+
+        boolean hasSurrogates() {
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (ranges[i] <= Character.MAX_SURROGATE && ranges[i + 1] >= Character.MIN_SURROGATE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A node of the syntax tree.
+     */
+    private static final class Node {
+
+        final int kind;
+        /** The chars of a {@link #CLASS} node. */
+        final CharClass chars;
+        /** The parts of a {@link #CONCAT}, {@link #ALTERNATE} or {@link #REPEAT} node. */
+        final Node[] children;
+        final int min;
+        /** Most repetitions, -1 for no limit. */
+        final int max;
+        final boolean greedy;
+
+        Node(final int kind, final CharClass chars, final Node[] children, final int min, final int max,
+            final boolean greedy) {
+            this.kind = kind;
+            this.chars = chars;
+            this.children = children;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+        }
+
+        boolean nullable() {
+            switch (kind) {
+            case CLASS:
+                return false;
+            case CONCAT:
+                for (final Node child : children) {
+                    if (!child.nullable()) {
+                        return false;
+                    }
+                }
+                return true;
+            case ALTERNATE:
+                for (final Node child : children) {
+                    if (child.nullable()) {
+                        return true;
+                    }
+                }
+                return false;
+            case REPEAT:
+                return min == 0 || children[0].nullable();
+            default:
+                return true;
+            }
+        }
+
+        /**
+         * Gets the chars a match of this node can start with.
+         */
+        CharClass firstChars() {
+            switch (kind) {
+            case CLASS:
+                return chars;
+            case CONCAT:
+                CharClass first = CharClass.EMPTY;
+                for (final Node child : children) {
+                    first = first.union(child.firstChars());
+                    if (!child.nullable()) {
+                        break;
+                    }
+                }
+                return first;
+            case ALTERNATE:
+                CharClass any = CharClass.EMPTY;
+                for (final Node child : children) {
+                    any = any.union(child.firstChars());
+                }
+                return any;
+            case REPEAT:
+                return max == 0 ? CharClass.EMPTY : children[0].firstChars();
+            default:
+                return CharClass.EMPTY;
+            }
+        }
+    }
+
+    /**
+     * Parses the supported subset, throwing {@code IllegalArgumentException} on anything
+     * else, valid {@code Pattern} syntax or not.
+     */
+    private static final class Parser {
+
+        private final String regex;
+        private int pos;
+        private int depth;
+
+        Parser(final String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() {
+            final Node node = alternation();
+            if (pos != regex.length()) {
+                throw unsupported();
+            }
+            return node;
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Unsupported at index " + pos + ": " + regex);
+        }
+
+        private boolean peek(final char c) {
+            return pos < regex.length() && regex.charAt(pos) == c;
+        }
+
+        private Node alternation() {
+            final List<Node> alternatives = new ArrayList<>();
+            alternatives.add(concatenation());
+            while (peek('|')) {
+                pos++;
+                alternatives.add(concatenation());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0)
+                : new Node(ALTERNATE, null, alternatives.toArray(new Node[0]), 0, 0, true);
+        }
+
+        private Node concatenation() {
+            final List<Node> parts = new ArrayList<>();
+            while (pos < regex.length() && !peek('|') && !peek(')')) {
+                parts.add(repetition());
+            }
+            return parts.size() == 1 ? parts.get(0) : new Node(CONCAT, null, parts.toArray(new Node[0]), 0, 0, true);
+        }
+
+        private Node repetition() {
+            final Node atom = atom();
+            if (pos == regex.length()) {
+                return atom;
+            }
+            final int min;
+            final int max;
+            switch (regex.charAt(pos)) {
+            case '*':
+                min = 0;
+                max = -1;
+                pos++;
+                break;
+            case '+':
+                min = 1;
+                max = -1;
+                pos++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                pos++;
+                break;
+            case '{':
+                pos++;
+                min = number();
+                if (peek(',')) {
+                    pos++;
+                    max = peek('}') ? -1 : number();
+                } else {
+                    max = min;
+                }
+                if (!peek('}') || max >= 0 && max < min) {
+                    throw unsupported();
+                }
+                pos++;
+                break;
+            default:
+                return atom;
+            }
+            boolean greedy = true;
+            if (peek('?')) {
+                greedy = false;
+                pos++;
+            }
+            // possessive and stacked quantifiers, and repeated empty matches, which Pattern treats specially
+            if (peek('+') || peek('*') || peek('?') || peek('{') || atom.kind == BEGIN || atom.kind == END
+                || max != 0 && max != 1 && atom.nullable()) {
+                throw unsupported();
+            }
+            return new Node(REPEAT, null, new Node[] {atom}, min, max, greedy);
+        }
+
+        private int number() {
+            final int start = pos;
+            while (pos < regex.length() && pos - start < 4 && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') {
+                pos++;
+            }
+            if (pos == start || pos - start == 4) {
+                throw unsupported();
+            }
+            return Integer.parseInt(regex.substring(start, pos));
+        }
+
+        private Node atom() {
+            final char c = regex.charAt(pos);
+            switch (c) {
+            case '(':
+                pos++;
+                if (peek('?')) {
+                    if (pos + 1 >= regex.length() || regex.charAt(pos + 1) != ':') {
+                        throw unsupported();
+                    }
+                    pos += 2;
+                }
+                if (++depth > MAX_DEPTH) {
+                    throw unsupported();
+                }
+                final Node group = alternation();
+                depth--;
+                if (!peek(')')) {
+                    throw unsupported();
+                }
+                pos++;
+                return group;
+            case '[':
+                return chars(characterClass());
+            case '.':
+                pos++;
+                return chars(CharClass.DOT);
+            case '^':
+                pos++;
+                return new Node(BEGIN, null, null, 0, 0, true);
+            case '$':
+                pos++;
+                return new Node(END, null, null, 0, 0, true);
+            case '\\':
+                return chars(escape());
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+            case ']':
+            case '}':
+                throw unsupported();
+            default:
+                pos++;
+                return chars(single(c));
+            }
+        }
+
+        private Node chars(final CharClass chars) {
+            return new Node(CLASS, chars, null, 0, 0, true);
+        }
+
+        private CharClass single(final char c) {
+            if (Character.isSurrogate(c)) {
+                throw unsupported();
+            }
+            return new CharClass(c, c);
+        }
+
+        private CharClass characterClass() {
+            pos++;
+            boolean negate = false;
+            if (peek('^')) {
+                negate = true;
+                pos++;
+            }
+            if (peek(']')) {
+                throw unsupported();
+            }
+            final int open = pos;
+            CharClass set = CharClass.EMPTY;
+            while (true) {
+                if (pos == regex.length() || peek('[') || regex.startsWith("&&", pos)) {
+                    throw unsupported();
+                }
+                if (peek(']')) {
+                    pos++;
+                    break;
+                }
+                final boolean dash = peek('-');
+                final CharClass lo = classAtom();
+                if (dash && pos - 1 != open && !peek(']')) {
+                    throw unsupported();
+                }
+                if (peek('-') && pos + 1 < regex.length() && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    if (peek('-')) {
+                        throw unsupported();
+                    }
+                    final CharClass hi = classAtom();
+                    if (!lo.isSingle() || !hi.isSingle() || lo.ranges[0] > hi.ranges[0]) {
+                        throw unsupported();
+                    }
+                    set = set.union(new CharClass(lo.ranges[0], hi.ranges[0]));
+                } else {
+                    set = set.union(lo);
+                }
+            }
+            return negate ? set.complement() : set;
+        }
+
+        private CharClass classAtom() {
+            final char c = regex.charAt(pos);
+            if (c == '\\') {
+                return escape();
+            }
+            pos++;
+            return single(c);
+        }
+
+        private CharClass escape() {
+            pos++;
+            if (pos == regex.length()) {
+                throw unsupported();
+            }
+            final char c = regex.charAt(pos++);
+            switch (c) {
+            case 't':
+                return single('\t');
+            case 'n':
+                return single('\n');
+            case 'r':
+                return single('\r');
+            case 'f':
+                return single('\f');
+            case 'a':
+                return single('\u0007');
+            case 'e':
+                return single('\u001B');
+            case 'd':
+                return CharClass.DIGIT;
+            case 'D':
+                return CharClass.DIGIT.complement();
+            case 's':
+                return CharClass.SPACE;
+            case 'S':
+                return CharClass.SPACE.complement();
+            case 'w':
+                return CharClass.WORD;
+            case 'W':
+                return CharClass.WORD.complement();
+            case 'x':
+                return single(hex(2));
+            case 'u':
+                return single(hex(4));
+            default:
+                if (c >= 128 || Character.isLetterOrDigit(c)) {
+                    throw unsupported();
+                }
+                return single(c);
+            }
+        }
+
+        private char hex(final int digits) {
+            if (pos + digits > regex.length()) {
+                throw unsupported();
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                final int digit = Character.digit(regex.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw unsupported();
+                }
+                value = value << 4 | digit;
+            }
+            return (char) value;
+        }
+    }
+
+    /** The regex. */
+    private final String regex;
+    /** Opcode per instruction, null if the regex is not supported. */
+    private final int[] ops;
+    /** First operand per instruction. */
+    private final int[] args;
+    /** Lower priority target per {@link #SPLIT}. */
+    private final int[] alts;
+    private final CharClass[] classes;
+    /** Chars a match can start with, null if a match can be empty. */
+    private final CharClass first;
+    /** Whether some class matches surrogate chars, which Pattern matches by code point. */
+    private final boolean surrogates;
+    /**
+     * Lazily compiled fallback. Volatile, as instances are shared between threads through
+     * {@link PatternCache} and a {@code Pattern} is not safely published by a plain write.
+     * Racing threads may both compile it, getting equal patterns.
+     */
+    private volatile Pattern pattern;
+
+    private LinearRegex(final String regex) {
+        this.regex = regex;
+        this.ops = null;
+        this.args = null;
+        this.alts = null;
+        this.classes = null;
+        this.first = null;
+        this.surrogates = true;
+    }
+
+    private LinearRegex(final String regex, final Node root) {
+        final Builder builder = new Builder(regex);
+        builder.generate(root);
+        builder.emit(MATCH, 0);
+        this.regex = regex;
+        this.ops = Arrays.copyOf(builder.ops, builder.size);
+        this.args = Arrays.copyOf(builder.args, builder.size);
+        this.alts = Arrays.copyOf(builder.alts, builder.size);
+        this.classes = builder.classes.toArray(new CharClass[0]);
+        this.first = root.nullable() ? null : root.firstChars();
+        boolean any = false;
+        for (final CharClass chars : classes) {
+            any |= chars.hasSurrogates();
+        }
+        this.surrogates = any;
+    }
+
+    /**
+     * Emits the program for a syntax tree.
+     */
+    private static final class Builder {
+
+        final String regex;
+        final List<CharClass> classes = new ArrayList<>();
+        int[] ops = new int[16];
+        int[] args = new int[16];
+        int[] alts = new int[16];
+        /** Number of instructions emitted. */
+        int size;
+
+        Builder(final String regex) {
+            this.regex = regex;
+        }
+
+        int emit(final int op, final int arg) {
+            if (size == MAX_PROGRAM) {
+                throw new IllegalArgumentException("Program too large: " + regex);
+            }
+            if (size == ops.length) {
+                ops = Arrays.copyOf(ops, size << 1);
+                args = Arrays.copyOf(args, size << 1);
+                alts = Arrays.copyOf(alts, size << 1);
+            }
+            ops[size] = op;
+            args[size] = arg;
+            return size++;
+        }
+
+        /**
+         * Sets the targets of a split, the preferred one first.
+         */
+        void patch(final int split, final int preferred, final int other) {
+            args[split] = preferred;
+            alts[split] = other;
+        }
+
+        void generate(final Node node) {
+            switch (node.kind) {
+            case CLASS:
+                if (node.chars.isSingle()) {
+                    emit(CHAR, node.chars.ranges[0]);
+                } else {
+                    classes.add(node.chars);
+                    emit(CLASS, classes.size() - 1);
+                }
+                break;
+            case BEGIN:
+            case END:
+                emit(node.kind, 0);
+                break;
+            case CONCAT:
+                for (final Node child : node.children) {
+                    generate(child);
+                }
+                break;
+            case ALTERNATE:
+                final int last = node.children.length - 1;
+                final int[] jumps = new int[last];
+                for (int i = 0; i < last; i++) {
+                    final int split = emit(SPLIT, 0);
+                    generate(node.children[i]);
+                    jumps[i] = emit(JUMP, 0);
+                    patch(split, split + 1, size);
+                }
+                generate(node.children[last]);
+                for (final int jump : jumps) {
+                    args[jump] = size;
+                }
+                break;
+            default:
+                final Node body = node.children[0];
+                for (int i = 0; i < node.min; i++) {
+                    generate(body);
+                }
+                if (node.max < 0) {
+                    final int loop = emit(SPLIT, 0);
+                    generate(body);
+                    emit(JUMP, loop);
+                    patch(loop, node.greedy ? loop + 1 : size, node.greedy ? size : loop + 1);
+                } else {
+                    final int[] splits = new int[node.max - node.min];
+                    for (int i = 0; i < splits.length; i++) {
+                        splits[i] = emit(SPLIT, 0);
+                        generate(body);
+                    }
+                    for (final int split : splits) {
+                        patch(split, node.greedy ? split + 1 : size, node.greedy ? size : split + 1);
+                    }
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * <p>Checks if the regex runs on the linear time engine.</p>
+     *
+     * @return {@code true} if the regex is in the supported subset, {@code false} if it is
+     *  handed to {@link Pattern}
+     */
+    public boolean isLinear() {
+        return ops != null;
+    }
+
+    /**
+     * <p>Gets the regular expression.</p>
+     *
+     * @return the regex, never null
+     */
+    public String getRegex() {
+        return regex;
+    }
+
+    private Pattern pattern() {
+        Pattern p = pattern;
+        if (p == null) {
+            p = PatternCache.getShared().compile(regex);
+            pattern = p;
+        }
+        return p;
+    }
+
+    /**
+     * Checks if a text has to be handed to {@code Pattern}.
+     */
+    private boolean delegate(final CharSequence text) {
+        if (ops == null) {
+            return true;
+        }
+        if (surrogates) {
+            for (int i = 0; i < text.length(); i++) {
+                if (Character.isSurrogate(text.charAt(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Finds the first match of the regex in a text.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return the start index of the first match, -1 if no match or null input
+     * @see Matcher#find()
+     */
+    public int indexIn(final CharSequence text) {
+        if (text == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (delegate(text)) {
+            final Matcher m = pattern().matcher(text);
+            return m.find() ? m.start() : StringUtils.INDEX_NOT_FOUND;
+        }
+        final long match = new Vm(false).find(text, 0);
+        return match < 0 ? StringUtils.INDEX_NOT_FOUND : (int) (match >>> 32);
+    }
+
+    /**
+     * <p>Checks if the regex matches somewhere in a text.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return {@code true} if there is a match, {@code false} if no match or null input
+     */
+    public boolean containedIn(final CharSequence text) {
+        return indexIn(text) >= 0;
+    }
+
+    /**
+     * <p>Removes every match of the regex.</p>
+     *
+     * @param text  the CharSequence to remove from, may be null
+     * @return the text with the matches removed, {@code null} if null input
+     * @see Matcher#replaceAll(String)
+     */
+    public String removeAll(final CharSequence text) {
+        return replace(text, StringUtils.EMPTY, true);
+    }
+
+    /**
+     * <p>Removes the first match of the regex.</p>
+     *
+     * @param text  the CharSequence to remove from, may be null
+     * @return the text with the first match removed, {@code null} if null input
+     * @see Matcher#replaceFirst(String)
+     */
+    public String removeFirst(final CharSequence text) {
+        return replace(text, StringUtils.EMPTY, false);
+    }
+
+    /**
+     * <p>Replaces every match of the regex.</p>
+     *
+     * <p>The replacement is inserted as is, {@code $} and {@code \} have no special meaning.</p>
+     *
+     * @param text  the CharSequence to replace in, may be null
+     * @param replacement  the String to insert for every match, null is treated as empty
+     * @return the text with the matches replaced, {@code null} if null input
+     * @see Matcher#replaceAll(String)
+     */
+    public String replaceAll(final CharSequence text, final String replacement) {
+        return replace(text, StringUtils.defaultString(replacement), true);
+    }
+
+    /**
+     * <p>Replaces the first match of the regex.</p>
+     *
+     * <p>The replacement is inserted as is, {@code $} and {@code \} have no special meaning.</p>
+     *
+     * @param text  the CharSequence to replace in, may be null
+     * @param replacement  the String to insert for the match, null is treated as empty
+     * @return the text with the first match replaced, {@code null} if null input
+     * @see Matcher#replaceFirst(String)
+     */
+    public String replaceFirst(final CharSequence text, final String replacement) {
+        return replace(text, StringUtils.defaultString(replacement), false);
+    }
+
+    private String replace(final CharSequence text, final String replacement, final boolean all) {
+        if (text == null) {
+            return null;
+        }
+        if (delegate(text)) {
+            final Matcher m = pattern().matcher(text);
+            final String quoted = Matcher.quoteReplacement(replacement);
+            return all ? m.replaceAll(quoted) : m.replaceFirst(quoted);
+        }
+        final Vm vm = new Vm(all);
+        long match = vm.find(text, 0);
+        if (match < 0) {
+            return text.toString();
+        }
+        final int len = text.length();
+        final StringBuilder sb = new StringBuilder(len);
+        int last = 0;
+        do {
+            final int start = (int) (match >>> 32);
+            final int end = (int) match;
+            sb.append(text, last, start).append(replacement);
+            last = end;
+            // as Matcher.find() does, move past an empty match
+            final int from = end == start ? end + 1 : end;
+            if (!all || from > len) {
+                break;
+            }
+            match = vm.find(text, from);
+        } while (match >= 0);
+        return sb.append(text, last, len).toString();
+    }
+
+    /**
+     * Checks {@code $} as {@code Pattern} does without flags: at the end, or before a final
+     * line terminator, counting {@code \r\n} as one.
+     */
+    private static boolean atEnd(final CharSequence text, final int pos) {
+        final int len = text.length();
+        if (pos == len) {
+            return true;
+        }
+        if (pos == len - 2) {
+            return text.charAt(pos) == '\r' && text.charAt(pos + 1) == '\n';
+        }
+        if (pos == len - 1) {
+            final char c = text.charAt(pos);
+            if (c == '\n') {
+                return pos == 0 || text.charAt(pos - 1) != '\r';
+            }
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+        return false;
+    }
+
+    /**
+     * The threads at one text position in priority order, with the instructions visited
+     * while adding them.
+     */
+    private static final class Threads {
+
+        final int[] pcs;
+        /** Start index of the match each thread is trying. */
+        final int[] starts;
+        /** Equals {@link #generation} for the instructions visited at this position. */
+        final int[] marks;
+        int size;
+        int generation;
+
+        Threads(final int length) {
+            pcs = new int[length];
+            starts = new int[length];
+            marks = new int[length];
+        }
+
+        void clear() {
+            size = 0;
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+    }
+
+    /**
+     * The scratch state of a search, kept from one match to the next in a text.
+     *
+     * <p>Once a search has a match, the threads of higher priority still run, and should
+     * they all fail, every thread they had past the end of the match leads to no match
+     * from where it stands, whatever its start. Those are remembered as a bit per
+     * instruction and text position, and the next search of the text drops a thread on
+     * reaching one, rather than running it again over the same chars. Each instruction
+     * is thus run at most about twice per text position over all searches.</p>
+     */
+    private final class Vm {
+
+        private Threads current = new Threads(ops.length);
+        private Threads next = new Threads(ops.length);
+        private final int[] stack = new int[2 * ops.length + 1];
+        /** Longs per text position in {@link #dead}. */
+        private final int words = (ops.length + 63) >>> 6;
+        /** Bit {@code pc} of the row for a position is set if a thread there leads to no match, null until needed. */
+        private long[] dead;
+        /** The text position of the first row of {@link #dead}. */
+        private int deadFrom;
+        /** Whether to remember, false for a single search or if the rows would take more than {@link #MAX_DEAD_BITS}. */
+        private boolean remembering;
+
+        Vm(final boolean remembering) {
+            this.remembering = remembering;
+        }
+
+        /**
+         * Finds the leftmost-first match at or after an index.
+         *
+         * @return the start index shifted left 32 bits or'ed with the end index, -1 if none
+         */
+        long find(final CharSequence text, final int from) {
+            final int len = text.length();
+            current.clear();
+            int matchStart = -1;
+            int matchEnd = -1;
+            for (int i = from;; i++) {
+                if (matchStart < 0) {
+                    if (current.size == 0 && first != null) {
+                        i = nextStart(text, i);
+                        if (i < 0) {
+                            break;
+                        }
+                        // forget the instructions visited at the index skipped from
+                        current.clear();
+                    }
+                    // a new thread starting here, with the lowest priority
+                    add(current, 0, i, text, i);
+                } else if (current.size == 0) {
+                    break;
+                }
+                next.clear();
+                final char c = i < len ? text.charAt(i) : 0;
+                final Threads threads = current;
+                for (int t = 0; t < threads.size; t++) {
+                    final int pc = threads.pcs[t];
+                    final int op = ops[pc];
+                    if (op == MATCH) {
+                        matchStart = threads.starts[t];
+                        matchEnd = i;
+                        // lower priority threads cannot win any more
+                        break;
+                    }
+                    if (i < len && (op == CHAR ? c == args[pc] : classes[args[pc]].contains(c))) {
+                        add(next, pc + 1, threads.starts[t], text, i + 1);
+                    }
+                }
+                if (matchStart >= 0 && matchEnd < i) {
+                    // past the match, dead unless one of them matches later on, when the
+                    // next search starts beyond this position anyway
+                    remember(threads, i, len, from);
+                }
+                current = next;
+                next = threads;
+                if (i == len) {
+                    break;
+                }
+            }
+            return matchStart < 0 ? -1 : (long) matchStart << 32 | matchEnd;
+        }
+
+        /**
+         * Marks the instructions of the threads at a text position as leading to no match.
+         */
+        private void remember(final Threads threads, final int pos, final int len, final int from) {
+            if (dead == null) {
+                if (!remembering || (long) words * 64 * (len + 1 - from) > MAX_DEAD_BITS) {
+                    remembering = false;
+                    return;
+                }
+                dead = new long[words * (len + 1 - from)];
+                deadFrom = from;
+            }
+            final int row = (pos - deadFrom) * words;
+            for (int t = 0; t < threads.size; t++) {
+                final int pc = threads.pcs[t];
+                dead[row + (pc >>> 6)] |= 1L << pc;
+            }
+        }
+
+        private boolean isDead(final int pc, final int pos) {
+            return dead != null && (dead[(pos - deadFrom) * words + (pc >>> 6)] & 1L << pc) != 0;
+        }
+
+        private int nextStart(final CharSequence text, final int from) {
+            final int len = text.length();
+            for (int i = from; i < len; i++) {
+                if (first.contains(text.charAt(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Adds a thread, following jumps, splits and assertions depth first so that
+         * threads are listed in priority order.
+         */
+        private void add(final Threads threads, final int pc0, final int start, final CharSequence text,
+            final int pos) {
+            int sp = 0;
+            stack[sp++] = pc0;
+            while (sp > 0) {
+                final int pc = stack[--sp];
+                if (threads.marks[pc] == threads.generation) {
+                    continue;
+                }
+                threads.marks[pc] = threads.generation;
+                switch (ops[pc]) {
+                case JUMP:
+                    stack[sp++] = args[pc];
+                    break;
+                case SPLIT:
+                    stack[sp++] = alts[pc];
+                    stack[sp++] = args[pc];
+                    break;
+                case BEGIN:
+                    if (pos == 0) {
+                        stack[sp++] = pc + 1;
+                    }
+                    break;
+                case END:
+                    if (atEnd(text, pos)) {
+                        stack[sp++] = pc + 1;
+                    }
+                    break;
+                default:
+                    if (!isDead(pc, pos)) {
+                        threads.pcs[threads.size] = pc;
+                        threads.starts[threads.size++] = start;
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Parallel search operations over UTF-8 text files.</p>
+ *
+ * <p>Files are memory-mapped with {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * segment by segment, so no file content is copied onto the heap and files may be
+ * larger than 2GB. Segments are scanned in parallel on the common
+ * {@link ForkJoinPool}. Each segment is mapped with an overlap of the longest
+ * search string minus one byte, so a match is found by the segment it starts in.
+ * Searches for the first match neither map nor finish scanning the segments to the
+ * right of a segment already known to hold one.</p>
+ *
+ * <p>The search strings are encoded to UTF-8 and matched byte by byte, reusing
+ * {@link Searcher} and {@link MultiStringMatcher} over the bytes. Results are those
+ * of the {@link StringUtils} method of the same name on the decoded file, with byte
+ * offsets instead of char indexes. A search string with an unpaired surrogate
+ * never matches, as well-formed UTF-8 cannot contain it.</p>
+ *
+ * <p>A {@code null} path is handled quietly as a {@code null} CharSequence is by
+ * {@link StringUtils}.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public class MappedFileSearchUtils {
+
+    /** Bytes per mapped segment, each scanned by one task. */
+    static final int SEGMENT_SIZE = 1 << 24;
+
+    /**
+     * A read-only view of mapped bytes as chars 0 to 255, so that the char based
+     * matchers can run over them.
+     */
+    private static final class ByteView implements CharSequence {
+
+        /** The mapped bytes. */
+        private final ByteBuffer bytes;
+
+        ByteView(final ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            final StringBuilder sb = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                sb.append(charAt(i));
+            }
+            return sb;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+
+    /**
+     * Scans every segment of a file on the fork join pool.
+     */
+    private abstract static class SegmentScan extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The file. */
+        final transient FileChannel channel;
+        /** The file size. */
+        final long size;
+        /** Bytes mapped past the end of each segment. */
+        final int overlap;
+        /** First segment index of this task, inclusive. */
+        final int lo;
+        /** Last segment index of this task, exclusive. */
+        private final int hi;
+
+        SegmentScan(final FileChannel channel, final long size, final int overlap, final int lo, final int hi) {
+            this.channel = channel;
+            this.size = size;
+            this.overlap = overlap;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                final int mid = (lo + hi) >>> 1;
+                invokeAll(split(lo, mid), split(mid, hi));
+                return;
+            }
+            try {
+                scan(lo, map(lo, overlap));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Maps a segment and the given number of bytes after it, as far as the file goes.
+         */
+        ByteView map(final int segment, final int extra) throws IOException {
+            final long start = (long) segment * SEGMENT_SIZE;
+            final long length = Math.min(SEGMENT_SIZE + (long) extra, size - start);
+            return new ByteView(channel.map(FileChannel.MapMode.READ_ONLY, start, length));
+        }
+
+        /**
+         * Gets the number of bytes of a segment, without the overlap.
+         */
+        int segmentLength(final int segment) {
+            return (int) Math.min(SEGMENT_SIZE, size - (long) segment * SEGMENT_SIZE);
+        }
+
+        abstract SegmentScan split(int from, int to);
+
+        abstract void scan(int segment, ByteView view);
+    }
+
+    /**
+     * Finds the first match of any search string, skipping segments past a match already found.
+     */
+    private static final class FirstScan extends SegmentScan {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The compiled search strings. */
+        private final transient MultiStringMatcher matcher;
+        /** Offset of the first match per segment with one, relative to the segment. */
+        final int[] first;
+        /** The leftmost segment with a match found so far by any task, {@code Integer.MAX_VALUE} if none. */
+        final AtomicInteger best;
+
+        FirstScan(final FileChannel channel, final long size, final MultiStringMatcher matcher,
+                final int[] first, final AtomicInteger best, final int lo, final int hi) {
+            super(channel, size, matcher.maxLength() - 1, lo, hi);
+            this.matcher = matcher;
+            this.first = first;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            if (lo >= best.get()) {
+                // a match to the left is already known, do not map these segments
+                return;
+            }
+            super.compute();
+        }
+
+        @Override
+        SegmentScan split(final int from, final int to) {
+            return new FirstScan(channel, size, matcher, first, best, from, to);
+        }
+
+        @Override
+        void scan(final int segment, final ByteView view) {
+            final int found = matcher.indexIn(view);
+            // a match starting in the overlap belongs to the next segment
+            if (found != StringUtils.INDEX_NOT_FOUND && found < segmentLength(segment)) {
+                first[segment] = found;
+                best.accumulateAndGet(segment, Math::min);
+            }
+        }
+    }
+
+    /**
+     * Counts the non-overlapping matches in each segment, greedily from the segment start.
+     */
+    private static final class CountScan extends SegmentScan {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The compiled needle. */
+        final transient Searcher searcher;
+        /** Number of matches per segment. */
+        final int[] counts;
+        /** Offset of the first match per segment, relative to the segment, -1 if none. */
+        final int[] first;
+        /** End of the last match per segment, relative to the segment. */
+        final int[] exits;
+
+        CountScan(final FileChannel channel, final long size, final Searcher searcher,
+                final int[] counts, final int[] first, final int[] exits, final int lo, final int hi) {
+            super(channel, size, searcher.length() - 1, lo, hi);
+            this.searcher = searcher;
+            this.counts = counts;
+            this.first = first;
+            this.exits = exits;
+        }
+
+        @Override
+        SegmentScan split(final int from, final int to) {
+            return new CountScan(channel, size, searcher, counts, first, exits, from, to);
+        }
+
+        @Override
+        void scan(final int segment, final ByteView view) {
+            final int end = segmentLength(segment);
+            final int m = searcher.length();
+            int count = 0;
+            int idx = 0;
+            first[segment] = StringUtils.INDEX_NOT_FOUND;
+            exits[segment] = 0;
+            while ((idx = searcher.indexIn(view, idx)) != StringUtils.INDEX_NOT_FOUND && idx < end) {
+                if (count == 0) {
+                    first[segment] = idx;
+                }
+                count++;
+                idx += m;
+                exits[segment] = idx;
+            }
+            counts[segment] = count;
+        }
+
+        /**
+         * Recounts a segment greedily from {@code from} instead of from its start, scanning
+         * only until both chains of matches meet.
+         *
+         * @return the count in the high word, the end of the last match (or {@code from}) in the low word
+         */
+        long recount(final int segment, final int from) throws IOException {
+            final ByteView view = map(segment, overlap);
+            final int end = segmentLength(segment);
+            final int m = searcher.length();
+            int count = 0;
+            int exit = from;
+            // b walks the chain counted from the segment start, skipped counts its steps
+            int b = first[segment];
+            int skipped = 0;
+            while (true) {
+                final int next = searcher.indexIn(view, exit);
+                if (next == StringUtils.INDEX_NOT_FOUND || next >= end) {
+                    return pack(count, exit);
+                }
+                while (b >= 0 && b < next) {
+                    final int nextB = searcher.indexIn(view, b + m);
+                    b = nextB >= 0 && nextB < end ? nextB : StringUtils.INDEX_NOT_FOUND;
+                    skipped++;
+                }
+                if (b == next) {
+                    // from here on both chains are the same
+                    return pack(count + counts[segment] - skipped, exits[segment]);
+                }
+                count++;
+                exit = next + m;
+            }
+        }
+
+        private static long pack(final int count, final int exit) {
+            return (long) count << 32 | exit & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * <p>{@code MappedFileSearchUtils} instances should NOT be constructed in
+     * standard programming.</p>
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean
+     * instance to operate.</p>
+     */
+    public MappedFileSearchUtils() {
+        super();
+    }
+
+    /**
+     * <p>Checks if the file contains any of the CharSequences in the given array.</p>
+     *
+     * @param file  the UTF-8 file to check, may be null
+     * @param searchCharSequences  the CharSequences to search for, may be null
+     * @return {@code true} if any of the search CharSequences are found, {@code false} otherwise
+     * @throws IOException if the file cannot be read
+     * @see StringUtils#containsAny(CharSequence, CharSequence...)
+     */
+    public static boolean containsAny(final Path file, final CharSequence... searchCharSequences) throws IOException {
+        if (file == null || ArrayUtils.isEmpty(searchCharSequences)) {
+            return false;
+        }
+        final MultiStringMatcher matcher = compile(searchCharSequences);
+        if (matcher.matchesEmpty()) {
+            // an empty search string is found in any non-empty text
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.size() > 0;
+            }
+        }
+        return firstOffset(file, matcher) >= 0;
+    }
+
+    /**
+     * <p>Counts how many times the substring appears in the file.</p>
+     *
+     * <p>Matches do not overlap, as in {@link StringUtils#countMatches(CharSequence, CharSequence)}.
+     * Segments count greedily from their own start; when a match crosses into the next
+     * segment, that segment is recounted from the end of the match until its matches
+     * line up with the ones already found, which for most needles is immediately.</p>
+     *
+     * @param file  the UTF-8 file to check, may be null
+     * @param sub  the substring to count, may be null
+     * @return the number of occurrences, 0 if either argument is {@code null} or {@code sub} is empty
+     * @throws IOException if the file cannot be read
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static long countMatches(final Path file, final CharSequence sub) throws IOException {
+        if (file == null || StringUtils.isEmpty(sub)) {
+            return 0;
+        }
+        final byte[] needle = Utf8Utils.encode(sub);
+        if (needle == null) {
+            return 0;
+        }
+        final Searcher searcher = Searcher.compile(new String(needle, StandardCharsets.ISO_8859_1));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int segments = segments(size);
+            final int[] counts = new int[segments];
+            final int[] first = new int[segments];
+            final int[] exits = new int[segments];
+            final CountScan scan = new CountScan(channel, size, searcher, counts, first, exits, 0, segments);
+            invoke(scan);
+            long total = 0;
+            // bytes at the start of the segment covered by the previous segment's last match
+            int carry = 0;
+            for (int i = 0; i < segments; i++) {
+                final int exit;
+                if (carry > 0 && first[i] >= 0 && first[i] < carry) {
+                    final long countAndExit = scan.recount(i, carry);
+                    total += countAndExit >>> 32;
+                    exit = (int) countAndExit;
+                } else {
+                    // the first match from the carry is the first match from the start
+                    total += counts[i];
+                    exit = exits[i];
+                }
+                carry = Math.max(0, exit - scan.segmentLength(i));
+            }
+            return total;
+        }
+    }
+
+    /**
+     * <p>Finds the first byte offset of a CharSequence within the file.</p>
+     *
+     * @param file  the UTF-8 file to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the first byte offset of the search CharSequence, -1 if no match or {@code null} input
+     * @throws IOException if the file cannot be read
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static long indexOf(final Path file, final CharSequence searchSeq) throws IOException {
+        if (file == null || searchSeq == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        return indexOfAny(file, searchSeq);
+    }
+
+    /**
+     * <p>Finds the first byte offset of any of a set of potential substrings within the file.</p>
+     *
+     * @param file  the UTF-8 file to check, may be null
+     * @param searchStrs  the CharSequences to search for, may be null
+     * @return the first byte offset of any of the searchStrs, -1 if no match
+     * @throws IOException if the file cannot be read
+     * @see StringUtils#indexOfAny(CharSequence, CharSequence...)
+     */
+    public static long indexOfAny(final Path file, final CharSequence... searchStrs) throws IOException {
+        if (file == null || searchStrs == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final MultiStringMatcher matcher = compile(searchStrs);
+        if (matcher.matchesEmpty()) {
+            return 0;
+        }
+        return firstOffset(file, matcher);
+    }
+
+    private static MultiStringMatcher compile(final CharSequence[] searchStrs) {
+        final CharSequence[] encoded = new CharSequence[searchStrs.length];
+        for (int i = 0; i < searchStrs.length; i++) {
+            final CharSequence search = searchStrs[i];
+            final byte[] bytes = search == null ? null : Utf8Utils.encode(search);
+            encoded[i] = bytes == null ? null : new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        return MultiStringMatcher.compile(encoded);
+    }
+
+    private static long firstOffset(final Path file, final MultiStringMatcher matcher) throws IOException {
+        if (matcher.matchesNothing()) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int segments = segments(size);
+            final int[] first = new int[segments];
+            final AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+            invoke(new FirstScan(channel, size, matcher, first, best, 0, segments));
+            final int segment = best.get();
+            return segment == Integer.MAX_VALUE ? StringUtils.INDEX_NOT_FOUND : (long) segment * SEGMENT_SIZE + first[segment];
+        }
+    }
+
+    private static void invoke(final SegmentScan scan) throws IOException {
+        try {
+            ForkJoinPool.commonPool().invoke(scan);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static int segments(final long size) {
+        final long segments = (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+        return (int) Math.max(segments, 1);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>Spliterator over the start indexes of every match in a text.</p>
+ *
+ * <p>A spliterator covers a range of the text and reports the matches starting in
+ * that range, reading past its end as far as a match needs. Splitting hands the
+ * first half of the remaining range to a new spliterator, so a parallel stream
+ * searches disjoint ranges of the text on different threads and every match is
+ * reported exactly once, in ascending order.</p>
+ *
+ * @since 3.11
+ */
+final class MatchSpliterator implements Spliterator.OfInt {
+
+    /** Ranges shorter than this are not split further. */
+    static final int MIN_SPLIT = 1 << 12;
+
+    /**
+     * Finds matches in a text.
+     */
+    interface Finder {
+
+        /**
+         * Finds the first match starting at or after {@code from} and before {@code to}.
+         *
+         * @param text  the text, not null
+         * @param from  the first candidate start, not negative
+         * @param to  the end of the candidate starts, at most the text length
+         * @return the start of the match, or -1
+         */
+        int find(CharSequence text, int from, int to);
+    }
+
+    /**
+     * Gets a finder for every index of a char.
+     */
+    static Finder forChar(final char searchChar) {
+        return (text, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (text.charAt(i) == searchChar) {
+                    return i;
+                }
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        };
+    }
+
+    /**
+     * Gets a finder for every index of a char in a set, a high surrogate only matching
+     * where it does in {@link CharSetMatcher#indexIn(CharSequence)}.
+     */
+    static Finder forCharSet(final CharSetMatcher matcher) {
+        return (text, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (matcher.matches(text, i, true)) {
+                    return i;
+                }
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        };
+    }
+
+    /**
+     * Gets a finder for every index of a non-empty needle, overlapping matches included.
+     */
+    static Finder forSearcher(final Searcher searcher) {
+        return (text, from, to) -> {
+            // matches starting before to may end up to length - 1 chars past it
+            final int end = (int) Math.min(text.length(), (long) to + searcher.length() - 1);
+            return searcher.indexIn(text, from, end);
+        };
+    }
+
+    /** The text. */
+    private final CharSequence text;
+    /** How to find the next match. */
+    private final Finder finder;
+    /** The next candidate start. */
+    private int pos;
+    /** End of the candidate starts, exclusive. */
+    private final int end;
+
+    MatchSpliterator(final CharSequence text, final Finder finder, final int pos, final int end) {
+        this.text = text;
+        this.finder = finder;
+        this.pos = pos;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        if (pos >= end) {
+            return false;
+        }
+        final int found = finder.find(text, pos, end);
+        if (found == StringUtils.INDEX_NOT_FOUND) {
+            pos = end;
+            return false;
+        }
+        pos = found + 1;
+        action.accept(found);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        int from = pos;
+        int found;
+        while (from < end && (found = finder.find(text, from, end)) != StringUtils.INDEX_NOT_FOUND) {
+            action.accept(found);
+            from = found + 1;
+        }
+        pos = end;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        final int lo = pos;
+        final int mid = (lo + end) >>> 1;
+        if (end - lo < MIN_SPLIT) {
+            return null;
+        }
+        pos = mid;
+        return new MatchSpliterator(text, finder, lo, mid);
+    }
+
+    /**
+     * Gets the number of candidate starts left, an upper bound on the number of matches.
+     */
+    @Override
+    public long estimateSize() {
+        return end - pos;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SORTED | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+        // sorted in natural order
+        return null;
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>A compiled set of search strings that can be located in a text in a single pass.</p>
+ *
+ * <p>The search strings are compiled into an Aho-Corasick automaton with a dense
+ * transition table. Only the characters that occur in the search strings get
+ * their own column in the table, every other character shares a single column.
+ * Finding the first or last match of any search string costs one table lookup
+ * per character of the text, regardless of how many search strings there are.</p>
+ *
+ * <p>Instances are immutable and may be shared between threads. They are intended
+ * to be compiled once and reused through
+ * {@link StringUtils#indexOfAny(CharSequence, MultiStringMatcher)},
+ * {@link StringUtils#containsAny(CharSequence, MultiStringMatcher)} and
+ * {@link #lastIndexIn(CharSequence)}.</p>
+ *
+ * <pre>
+ * MultiStringMatcher m = MultiStringMatcher.compile("ab", "cd");
+ * StringUtils.indexOfAny("zzabyycdxx", m) = 2
+ * m.lastIndexIn("zzabyycdxx")            = 6
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class MultiStringMatcher {
+
+    /** The state every scan starts in. */
+    private static final int ROOT = 0;
+
+    /**
+     * An Aho-Corasick automaton over one direction of the search strings.
+     */
+    private static final class Automaton {
+
+        /** Maps a char to its column in {@link #next}, chars past the end map to column 0. */
+        private final char[] columns;
+        /** Number of columns per state. */
+        private final int width;
+        /** The dense transition table, {@code next[state * width + column]}. */
+        private final int[] next;
+        /** Length of the longest search string ending in each state, 0 if none. */
+        private final int[] longest;
+
+        Automaton(final char[][] patterns) {
+            char maxChar = 0;
+            for (final char[] pattern : patterns) {
+                for (final char c : pattern) {
+                    if (c > maxChar) {
+                        maxChar = c;
+                    }
+                }
+            }
+            final char[] cols = new char[maxChar + 1];
+            int colCount = 1;
+            for (final char[] pattern : patterns) {
+                for (final char c : pattern) {
+                    if (cols[c] == 0) {
+                        cols[c] = (char) colCount++;
+                    }
+                }
+            }
+            this.columns = cols;
+            this.width = colCount;
+
+            // build the trie, at most one state per pattern char plus the root
+            int stateCount = 1;
+            for (final char[] pattern : patterns) {
+                stateCount += pattern.length;
+            }
+            int[] goTo = new int[stateCount * colCount];
+            Arrays.fill(goTo, -1);
+            int[] out = new int[stateCount];
+            int states = 1;
+            for (final char[] pattern : patterns) {
+                int state = ROOT;
+                for (final char c : pattern) {
+                    final int slot = state * colCount + cols[c];
+                    if (goTo[slot] < 0) {
+                        goTo[slot] = states++;
+                    }
+                    state = goTo[slot];
+                }
+                out[state] = Math.max(out[state], pattern.length);
+            }
+            goTo = Arrays.copyOf(goTo, states * colCount);
+            out = Arrays.copyOf(out, states);
+
+            // breadth first pass filling in failure transitions
+            final int[] fail = new int[states];
+            final int[] queue = new int[states];
+            int head = 0;
+            int tail = 0;
+            for (int col = 0; col < colCount; col++) {
+                final int child = goTo[col];
+                if (child < 0) {
+                    goTo[col] = ROOT;
+                } else {
+                    fail[child] = ROOT;
+                    queue[tail++] = child;
+                }
+            }
+            while (head < tail) {
+                final int state = queue[head++];
+                out[state] = Math.max(out[state], out[fail[state]]);
+                final int base = state * colCount;
+                final int failBase = fail[state] * colCount;
+                for (int col = 0; col < colCount; col++) {
+                    final int child = goTo[base + col];
+                    if (child < 0) {
+                        goTo[base + col] = goTo[failBase + col];
+                    } else {
+                        fail[child] = goTo[failBase + col];
+                        queue[tail++] = child;
+                    }
+                }
+            }
+            this.next = goTo;
+            this.longest = out;
+        }
+
+        int column(final char c) {
+            return c < columns.length ? columns[c] : 0;
+        }
+    }
+
+    /**
+     * <p>Compiles the given search strings into a matcher.</p>
+     *
+     * <p>{@code null} entries are ignored, an empty entry matches at every index.</p>
+     *
+     * @param searchStrs  the CharSequences to search for, may be null
+     * @return a matcher for the given search strings, never null
+     */
+    public static MultiStringMatcher compile(final CharSequence... searchStrs) {
+        return new MultiStringMatcher(searchStrs);
+    }
+
+    /** Automaton over the search strings. */
+    private final Automaton forward;
+    /** Automaton over the reversed search strings, used to find the last match. */
+    private final Automaton reverse;
+    /** Length of the longest search string. */
+    private final int maxLength;
+    /** Whether one of the search strings is empty. */
+    private final boolean matchesEmpty;
+    /** Whether there are no non-null search strings at all. */
+    private final boolean matchesNothing;
+
+    private MultiStringMatcher(final CharSequence[] searchStrs) {
+        int count = 0;
+        boolean empty = false;
+        final char[][] patterns = new char[searchStrs == null ? 0 : searchStrs.length][];
+        if (searchStrs != null) {
+            for (final CharSequence search : searchStrs) {
+                if (search == null) {
+                    continue;
+                }
+                if (search.length() == 0) {
+                    empty = true;
+                    continue;
+                }
+                patterns[count++] = CharSequenceUtils.toCharArray(search);
+            }
+        }
+        final char[][] forwardPatterns = Arrays.copyOf(patterns, count);
+        final char[][] reversePatterns = new char[count][];
+        int max = 0;
+        for (int i = 0; i < count; i++) {
+            final char[] reversed = forwardPatterns[i].clone();
+            ArrayUtils.reverse(reversed);
+            reversePatterns[i] = reversed;
+            max = Math.max(max, reversed.length);
+        }
+        this.forward = new Automaton(forwardPatterns);
+        this.reverse = new Automaton(reversePatterns);
+        this.maxLength = max;
+        this.matchesEmpty = empty;
+        this.matchesNothing = count == 0 && !empty;
+    }
+
+    /**
+     * Gets the state a scan starts in, for callers that feed chars one at a time.
+     */
+    int initialState() {
+        return ROOT;
+    }
+
+    /**
+     * Advances a forward scan by one char.
+     */
+    int nextState(final int state, final char c) {
+        return forward.next[state * forward.width + forward.column(c)];
+    }
+
+    /**
+     * Gets the length of the longest search string ending in a state of a forward scan, 0 if none.
+     */
+    int matchLength(final int state) {
+        return forward.longest[state];
+    }
+
+    /**
+     * Gets the length of the longest search string.
+     */
+    int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Checks if one of the search strings is empty.
+     */
+    boolean matchesEmpty() {
+        return matchesEmpty;
+    }
+
+    /**
+     * Checks if there are no search strings at all, so nothing can match.
+     */
+    boolean matchesNothing() {
+        return matchesNothing;
+    }
+
+    /**
+     * <p>Finds the first index in the text at which any of the search strings starts.</p>
+     *
+     * <p>This is the same result as {@link StringUtils#indexOfAny(CharSequence, CharSequence...)}
+     * with the search strings this matcher was compiled from.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return the first index of any of the search strings, -1 if no match or null input
+     */
+    public int indexIn(final CharSequence text) {
+        if (text == null || matchesNothing) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (matchesEmpty) {
+            return 0;
+        }
+        return indexIn(text, 0, text.length());
+    }
+
+    /**
+     * Finds the first match of any non-empty search string that starts at or after
+     * {@code from} and ends at or before {@code end}.
+     *
+     * @param text  the CharSequence to check, not null
+     * @param from  the first candidate start, not negative
+     * @param end  the end of the text to search, at most its length
+     * @return the first index of any of the search strings in range, -1 if no match
+     */
+    int indexIn(final CharSequence text, final int from, final int end) {
+        final Automaton a = forward;
+        final int width = a.width;
+        final int[] next = a.next;
+        final int[] longest = a.longest;
+        int best = Integer.MAX_VALUE;
+        int state = ROOT;
+        for (int i = from; i < end; i++) {
+            state = next[state * width + a.column(text.charAt(i))];
+            final int matched = longest[state];
+            if (matched > 0) {
+                final int start = i + 1 - matched;
+                if (start < best) {
+                    best = start;
+                }
+            }
+            // a match ending later cannot start before i + 2 - maxLength
+            if (best <= i + 2 - maxLength) {
+                break;
+            }
+        }
+        return best == Integer.MAX_VALUE ? StringUtils.INDEX_NOT_FOUND : best;
+    }
+
+    /**
+     * <p>Finds the last index in the text at which any of the search strings starts.</p>
+     *
+     * <p>This is the same result as {@link StringUtils#lastIndexOfAny(CharSequence, CharSequence...)}
+     * with the search strings this matcher was compiled from.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return the last index of any of the search strings, -1 if no match or null input
+     */
+    public int lastIndexIn(final CharSequence text) {
+        if (text == null || matchesNothing) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (matchesEmpty) {
+            return text.length();
+        }
+        final Automaton a = reverse;
+        final int width = a.width;
+        final int[] next = a.next;
+        final int[] longest = a.longest;
+        int state = ROOT;
+        for (int i = text.length() - 1; i >= 0; i--) {
+            state = next[state * width + a.column(text.charAt(i))];
+            if (longest[state] > 0) {
+                // scanning backwards, the first completed match has the greatest start index
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Checks if the text contains any of the search strings.</p>
+     *
+     * @param text  the CharSequence to check, may be null
+     * @return {@code true} if any of the search strings is found, {@code false} if no match or null input
+     */
+    public boolean containedIn(final CharSequence text) {
+        if (text == null || matchesNothing) {
+            return false;
+        }
+        if (matchesEmpty) {
+            return true;
+        }
+        final Automaton a = forward;
+        final int width = a.width;
+        final int[] next = a.next;
+        final int[] longest = a.longest;
+        final int len = text.length();
+        int state = ROOT;
+        for (int i = 0; i < len; i++) {
+            state = next[state * width + a.column(text.charAt(i))];
+            if (longest[state] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>Levenshtein distance by Myers' bit-vector algorithm.</p>
+ *
+ * <p>The shorter string is the pattern, and each column of the distance matrix is kept
+ * as vertical deltas, one bit per pattern char, in 64-bit words. A text char then costs
+ * a few word operations per 64 pattern chars instead of one {@code Math.min} per cell:
+ * a single word when the pattern has at most 64 chars, otherwise a block of words
+ * carrying the horizontal delta from one to the next.</p>
+ *
+ * <p>A common prefix and suffix are skipped first, as they do not change the distance.
+ * An instance keeps its tables between calls, growing them as needed, so it allocates
+ * nothing once warmed up.</p>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.11
+ */
+final class MyersLevenshtein {
+
+    /** Bits per block. */
+    private static final int WORD = 64;
+
+    /**
+     * Checks if the bit-vector algorithm is expected to beat the banded dynamic
+     * programming of {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)},
+     * which costs {@code 2 * threshold + 1} cells per text char against about four cells'
+     * worth per block.
+     */
+    static boolean beatsBand(final int shorterLength, final int threshold) {
+        final int blocks = (shorterLength + WORD - 1) / WORD;
+        return blocks <= 1 || threshold >= 2 * blocks;
+    }
+
+    /** Row of {@link #peq} per ASCII char, 0 for chars not in the pattern. */
+    private final int[] asciiRows = new int[128];
+    /** Non-ASCII pattern chars, open addressing. */
+    private char[] keys = new char[16];
+    /** Row of {@link #peq} per slot of {@link #keys}, 0 if the slot is empty. */
+    private int[] keyRows = new int[16];
+    /** Slots of {@link #keys} in use. */
+    private int[] usedSlots = new int[16];
+    private int usedCount;
+    /** Per pattern char, the bits of its positions, {@code peq[row * blocks + block]}; row 0 is all zeros. */
+    private long[] peq = new long[16];
+    /** Number of rows of {@link #peq} in use. */
+    private int rows;
+    /** Positive vertical deltas per block. */
+    private long[] pv = new long[1];
+    /** Negative vertical deltas per block. */
+    private long[] mv = new long[1];
+    /** Length of the {@link #fix(CharSequence) fixed} pattern. */
+    private int fixedLength;
+    /** Blocks of the {@link #fix(CharSequence) fixed} pattern. */
+    private int fixedBlocks;
+
+    /**
+     * Computes the Levenshtein distance of two non-null strings.
+     */
+    int distance(final CharSequence s, final CharSequence t) {
+        return distance(s, t, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Computes the Levenshtein distance of two non-null strings if it is at most a
+     * non-negative threshold.
+     *
+     * @return the distance, or -1 if it is greater than the threshold
+     */
+    int distance(final CharSequence s, final CharSequence t, final int threshold) {
+        if (Math.abs(s.length() - t.length()) > threshold) {
+            return -1;
+        }
+        // a common prefix or suffix does not change the distance
+        int start = 0;
+        int sEnd = s.length();
+        int tEnd = t.length();
+        while (start < sEnd && start < tEnd && s.charAt(start) == t.charAt(start)) {
+            start++;
+        }
+        while (sEnd > start && tEnd > start && s.charAt(sEnd - 1) == t.charAt(tEnd - 1)) {
+            sEnd--;
+            tEnd--;
+        }
+        final boolean sShorter = sEnd <= tEnd;
+        final CharSequence pattern = sShorter ? s : t;
+        final CharSequence text = sShorter ? t : s;
+        final int m = (sShorter ? sEnd : tEnd) - start;
+        final int n = (sShorter ? tEnd : sEnd) - start;
+        if (m == 0) {
+            return n;
+        }
+        final int blocks = (m + WORD - 1) / WORD;
+        prepare(pattern, start, m, blocks);
+        try {
+            final int distance = blocks == 1 ? single(text, start, n, m, threshold)
+                : blocked(text, start, n, m, blocks, threshold);
+            return distance <= threshold ? distance : -1;
+        } finally {
+            reset(pattern, start, m, blocks);
+        }
+    }
+
+    /**
+     * Fills the tables for one pattern to be compared against many texts with
+     * {@link #distanceFromFixed(CharSequence, int)}. The instance then serves that
+     * pattern only.
+     */
+    void fix(final CharSequence pattern) {
+        fixedLength = pattern.length();
+        fixedBlocks = Math.max((fixedLength + WORD - 1) / WORD, 1);
+        prepare(pattern, 0, fixedLength, fixedBlocks);
+    }
+
+    /**
+     * Computes the Levenshtein distance from the {@link #fix(CharSequence) fixed} pattern
+     * to a non-null text if it is at most a non-negative threshold. No common prefix or
+     * suffix is skipped, which would need the tables filled again.
+     *
+     * @return the distance, or -1 if it is greater than the threshold
+     */
+    int distanceFromFixed(final CharSequence text, final int threshold) {
+        final int n = text.length();
+        if (Math.abs(n - fixedLength) > threshold) {
+            return -1;
+        }
+        if (fixedLength == 0) {
+            return n;
+        }
+        final int distance = fixedBlocks == 1 ? single(text, 0, n, fixedLength, threshold)
+            : blocked(text, 0, n, fixedLength, fixedBlocks, threshold);
+        return distance <= threshold ? distance : -1;
+    }
+
+    private int single(final CharSequence text, final int from, final int n, final int m, final int threshold) {
+        final long last = 1L << (m - 1);
+        long p = -1L;
+        long mv1 = 0L;
+        int score = m;
+        for (int j = 0; j < n; j++) {
+            final long eq = peq[row(text.charAt(from + j))];
+            final long xv = eq | mv1;
+            final long xh = (((eq & p) + p) ^ p) | eq;
+            long ph = mv1 | ~(xh | p);
+            long mh = p & xh;
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+            }
+            // the top row of the matrix counts up, every block 0 step gets a +1 carry
+            ph = ph << 1 | 1L;
+            mh <<= 1;
+            p = mh | ~(xv | ph);
+            mv1 = ph & xv;
+            // the last row changes by at most one per remaining column
+            if (score - (n - j - 1) > threshold) {
+                return -1;
+            }
+        }
+        return score;
+    }
+
+    private int blocked(final CharSequence text, final int from, final int n, final int m, final int blocks,
+        final int threshold) {
+        if (pv.length < blocks) {
+            pv = new long[blocks];
+            mv = new long[blocks];
+        }
+        Arrays.fill(pv, 0, blocks, -1L);
+        Arrays.fill(mv, 0, blocks, 0L);
+        final long lastBit = 1L << ((m - 1) & (WORD - 1));
+        final int last = blocks - 1;
+        int score = m;
+        for (int j = 0; j < n; j++) {
+            final int base = row(text.charAt(from + j)) * blocks;
+            int hin = 1;
+            for (int b = 0; b <= last; b++) {
+                long eq = peq[base + b];
+                final long p = pv[b];
+                final long mvb = mv[b];
+                final long xv = eq | mvb;
+                if (hin < 0) {
+                    eq |= 1L;
+                }
+                final long xh = (((eq & p) + p) ^ p) | eq;
+                long ph = mvb | ~(xh | p);
+                long mh = p & xh;
+                final long high = b == last ? lastBit : Long.MIN_VALUE;
+                final int hout = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+                ph <<= 1;
+                mh <<= 1;
+                if (hin < 0) {
+                    mh |= 1L;
+                } else if (hin > 0) {
+                    ph |= 1L;
+                }
+                pv[b] = mh | ~(xv | ph);
+                mv[b] = ph & xv;
+                hin = hout;
+            }
+            score += hin;
+            if (score - (n - j - 1) > threshold) {
+                return -1;
+            }
+        }
+        return score;
+    }
+
+    private int row(final char c) {
+        if (c < 128) {
+            return asciiRows[c];
+        }
+        final int mask = keys.length - 1;
+        int slot = hash(c) & mask;
+        while (keyRows[slot] != 0) {
+            if (keys[slot] == c) {
+                return keyRows[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    private static int hash(final char c) {
+        return (c * 0x9E3779B1) >>> 16;
+    }
+
+    /**
+     * Fills {@link #peq} for the {@code m} pattern chars from {@code from}.
+     */
+    private void prepare(final CharSequence pattern, final int from, final int m, final int blocks) {
+        if (keys.length < 2 * m) {
+            final int capacity = Integer.highestOneBit(2 * m - 1) << 1;
+            keys = new char[capacity];
+            keyRows = new int[capacity];
+            usedSlots = new int[capacity];
+        }
+        if (peq.length < (m + 1) * blocks) {
+            peq = new long[(m + 1) * blocks];
+        }
+        rows = 1;
+        for (int i = 0; i < m; i++) {
+            final char c = pattern.charAt(from + i);
+            int r = row(c);
+            if (r == 0) {
+                r = rows++;
+                if (c < 128) {
+                    asciiRows[c] = r;
+                } else {
+                    final int mask = keys.length - 1;
+                    int slot = hash(c) & mask;
+                    while (keyRows[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = c;
+                    keyRows[slot] = r;
+                    usedSlots[usedCount++] = slot;
+                }
+            }
+            peq[r * blocks + (i >>> 6)] |= 1L << i;
+        }
+    }
+
+    /**
+     * Clears what {@link #prepare(CharSequence, int, int, int)} filled in.
+     */
+    private void reset(final CharSequence pattern, final int from, final int m, final int blocks) {
+        for (int i = from; i < from + m; i++) {
+            final char c = pattern.charAt(i);
+            if (c < 128) {
+                asciiRows[c] = 0;
+            }
+        }
+        for (int i = 0; i < usedCount; i++) {
+            keyRows[usedSlots[i]] = 0;
+        }
+        usedCount = 0;
+        Arrays.fill(peq, 0, rows * blocks, 0L);
+    }
+}
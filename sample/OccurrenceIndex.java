@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>All the positions of a substring within a text, found in a single scan.</p>
+ *
+ * <p>The text is scanned once when the index is built, and every start index of the
+ * substring, overlapping matches included, is kept in a sorted {@code int[]}.
+ * Ordinal queries are then answered in constant time and positional queries by
+ * binary search, instead of rescanning the text from the start as
+ * {@link StringUtils#ordinalIndexOf(CharSequence, CharSequence, int)} does on every
+ * call. Results are those of the {@link StringUtils} method of the same name on the
+ * text the index was built from.</p>
+ *
+ * <pre>
+ * OccurrenceIndex idx = OccurrenceIndex.of("a,b,,c", ",");
+ * idx.ordinalIndexOf(1)     = 1
+ * idx.ordinalIndexOf(3)     = 4
+ * idx.lastOrdinalIndexOf(1) = 4
+ * idx.indexOf(2)            = 3
+ * idx.countMatches()        = 3
+ * </pre>
+ *
+ * <p>The index does not keep a reference to the text, and does not see later changes to it.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class OccurrenceIndex {
+
+    /** Empty positions. */
+    private static final int[] NO_POSITIONS = new int[0];
+
+    /**
+     * <p>Scans a text for every occurrence of a substring.</p>
+     *
+     * @param text  the CharSequence to scan, not null
+     * @param searchStr  the CharSequence to find, not null
+     * @return the index of every occurrence, never null
+     * @throws NullPointerException if either argument is null
+     */
+    public static OccurrenceIndex of(final CharSequence text, final CharSequence searchStr) {
+        Validate.notNull(searchStr, "searchStr");
+        return of(text, Searcher.compile(searchStr));
+    }
+
+    /**
+     * <p>Scans a text for every occurrence of a compiled substring.</p>
+     *
+     * @param text  the CharSequence to scan, not null
+     * @param searcher  the compiled CharSequence to find, not null
+     * @return the index of every occurrence, never null
+     * @throws NullPointerException if either argument is null
+     */
+    public static OccurrenceIndex of(final CharSequence text, final Searcher searcher) {
+        Validate.notNull(text, "text");
+        Validate.notNull(searcher, "searcher");
+        return new OccurrenceIndex(text, searcher);
+    }
+
+    /** Start of every occurrence, ascending. */
+    private final int[] positions;
+    /** Length of the text. */
+    private final int textLength;
+    /** Length of the substring. */
+    private final int searchLength;
+    /** Number of non-overlapping occurrences. */
+    private final int countMatches;
+
+    private OccurrenceIndex(final CharSequence text, final Searcher searcher) {
+        this.textLength = text.length();
+        this.searchLength = searcher.length();
+        if (searchLength == 0) {
+            // an empty substring is answered arithmetically, not stored at every index
+            this.positions = NO_POSITIONS;
+            this.countMatches = 0;
+            return;
+        }
+        int[] found = new int[16];
+        int size = 0;
+        int count = 0;
+        int end = 0;
+        int index = searcher.indexIn(text, 0);
+        while (index != StringUtils.INDEX_NOT_FOUND) {
+            if (size == found.length) {
+                found = Arrays.copyOf(found, size << 1);
+            }
+            found[size++] = index;
+            if (index >= end) {
+                // greedy from the left, as countMatches steps past each match
+                count++;
+                end = index + searchLength;
+            }
+            index = searcher.indexIn(text, index + 1);
+        }
+        this.positions = Arrays.copyOf(found, size);
+        this.countMatches = count;
+    }
+
+    /**
+     * <p>Gets the number of occurrences, overlapping ones included.</p>
+     *
+     * <p>This is the highest ordinal for which {@link #ordinalIndexOf(int)} finds a match.
+     * An empty substring is counted at every index of the text and past its end.</p>
+     *
+     * @return the number of occurrences
+     */
+    public int size() {
+        return searchLength == 0 ? textLength + 1 : positions.length;
+    }
+
+    /**
+     * <p>Counts the non-overlapping occurrences.</p>
+     *
+     * @return the number of occurrences, 0 for an empty substring
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public int countMatches() {
+        return countMatches;
+    }
+
+    /**
+     * <p>Finds the n-th index of the substring.</p>
+     *
+     * @param ordinal  the n-th occurrence to find, starting at 1
+     * @return the n-th index of the substring, -1 if there are fewer occurrences or {@code ordinal} is not positive
+     * @see StringUtils#ordinalIndexOf(CharSequence, CharSequence, int)
+     */
+    public int ordinalIndexOf(final int ordinal) {
+        if (ordinal <= 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (searchLength == 0) {
+            return 0;
+        }
+        return ordinal <= positions.length ? positions[ordinal - 1] : StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Finds the n-th last index of the substring.</p>
+     *
+     * @param ordinal  the n-th last occurrence to find, starting at 1
+     * @return the n-th last index of the substring, -1 if there are fewer occurrences or {@code ordinal} is not positive
+     * @see StringUtils#lastOrdinalIndexOf(CharSequence, CharSequence, int)
+     */
+    public int lastOrdinalIndexOf(final int ordinal) {
+        if (ordinal <= 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (searchLength == 0) {
+            return textLength;
+        }
+        return ordinal <= positions.length ? positions[positions.length - ordinal] : StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Finds the first index of the substring at or after a position.</p>
+     *
+     * @param startPos  the start position, negative treated as zero
+     * @return the first index of the substring at or after {@code startPos}, -1 if no match
+     * @see StringUtils#indexOf(CharSequence, CharSequence, int)
+     */
+    public int indexOf(final int startPos) {
+        final int from = Math.max(startPos, 0);
+        if (searchLength == 0) {
+            return Math.min(from, textLength);
+        }
+        final int i = insertionPoint(from);
+        return i < positions.length ? positions[i] : StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Finds the last index of the substring at or before a position.</p>
+     *
+     * @param startPos  the start position, negative returns -1
+     * @return the last index of the substring at or before {@code startPos}, -1 if no match
+     * @see StringUtils#lastIndexOf(CharSequence, CharSequence, int)
+     */
+    public int lastIndexOf(final int startPos) {
+        if (startPos < 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (searchLength == 0) {
+            return Math.min(startPos, textLength);
+        }
+        // the last position not after startPos precedes the insertion point of startPos + 1
+        final int i = startPos == Integer.MAX_VALUE ? positions.length : insertionPoint(startPos + 1);
+        return i > 0 ? positions[i - 1] : StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Gets the start of every occurrence, overlapping ones included.</p>
+     *
+     * @return a new array of ascending indexes, empty for an empty substring
+     */
+    public int[] toArray() {
+        return positions.clone();
+    }
+
+    /**
+     * Gets the index of the first position at or after {@code from}.
+     */
+    private int insertionPoint(final int from) {
+        final int i = Arrays.binarySearch(positions, from);
+        return i >= 0 ? i : -i - 1;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Parallel search operations on very large CharSequences.</p>
+ *
+ * <p>The text is split into chunks that are searched as tasks on the common
+ * {@link ForkJoinPool}. A chunk owns the matches starting in it and reads up to
+ * the longest search string minus one char past its end, so a match crossing a
+ * chunk boundary is found exactly once. Texts shorter than
+ * {@link #SEQUENTIAL_THRESHOLD} are searched by the sequential {@link StringUtils}
+ * method of the same name, whose results every method here reproduces.</p>
+ *
+ * <p>The text is read from several threads at once, so it must not be modified
+ * during the call. {@code String} is always safe.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public class ParallelSearchUtils {
+
+    /** Texts shorter than this are searched sequentially. */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 20;
+
+    /** Smallest number of chars searched by one task. */
+    static final int MIN_CHUNK = 1 << 16;
+
+    /**
+     * The greedy chain of non-overlapping matches starting in a range of the text.
+     */
+    private static final class Chain {
+
+        /** Number of matches. */
+        final int count;
+        /** Start of the first match, -1 if none. */
+        final int first;
+        /** End of the last match, the start of the range if none. */
+        final int exit;
+
+        Chain(final int count, final int first, final int exit) {
+            this.count = count;
+            this.first = first;
+            this.exit = exit;
+        }
+    }
+
+    /**
+     * Counts the non-overlapping matches in a range, joining the chains of both halves.
+     */
+    private static final class CountTask extends RecursiveTask<Chain> {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The text. */
+        private final transient CharSequence text;
+        /** The compiled needle. */
+        private final transient Searcher searcher;
+        /** Chars per leaf task. */
+        private final int chunk;
+        /** First index of the range, inclusive. */
+        private final int lo;
+        /** Last index of the range, exclusive. */
+        private final int hi;
+
+        CountTask(final CharSequence text, final Searcher searcher, final int chunk, final int lo, final int hi) {
+            this.text = text;
+            this.searcher = searcher;
+            this.chunk = chunk;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Chain compute() {
+            if (hi - lo <= chunk) {
+                return scan();
+            }
+            final int mid = (lo + hi) >>> 1;
+            final CountTask left = new CountTask(text, searcher, chunk, lo, mid);
+            left.fork();
+            final Chain right = new CountTask(text, searcher, chunk, mid, hi).compute();
+            return join(left.join(), right);
+        }
+
+        private Chain scan() {
+            final int m = searcher.length();
+            int count = 0;
+            int first = StringUtils.INDEX_NOT_FOUND;
+            int exit = lo;
+            int idx;
+            while ((idx = next(exit)) != StringUtils.INDEX_NOT_FOUND) {
+                if (count == 0) {
+                    first = idx;
+                }
+                count++;
+                exit = idx + m;
+            }
+            return new Chain(count, first, exit);
+        }
+
+        /**
+         * Joins the chain of the left half with the chain of the right half.
+         * When the last match on the left overlaps the first match on the right, the right half
+         * is rescanned from the end of that match only until both chains meet again.
+         */
+        private Chain join(final Chain left, final Chain right) {
+            if (right.count == 0) {
+                return left;
+            }
+            if (left.exit <= right.first) {
+                return new Chain(left.count + right.count, left.count > 0 ? left.first : right.first, right.exit);
+            }
+            final int m = searcher.length();
+            int count = left.count;
+            int exit = left.exit;
+            // b walks the chain of the right half, skipped counts its steps
+            int b = right.first;
+            int skipped = 0;
+            while (true) {
+                final int idx = next(exit);
+                if (idx == StringUtils.INDEX_NOT_FOUND) {
+                    return new Chain(count, left.first, exit);
+                }
+                while (b != StringUtils.INDEX_NOT_FOUND && b < idx) {
+                    b = next(b + m);
+                    skipped++;
+                }
+                if (b == idx) {
+                    // from here on both chains are the same
+                    return new Chain(count + right.count - skipped, left.first, right.exit);
+                }
+                count++;
+                exit = idx + m;
+            }
+        }
+
+        /**
+         * Finds the next match starting at or after {@code from} and before the end of the range.
+         */
+        private int next(final int from) {
+            if (from >= hi) {
+                return StringUtils.INDEX_NOT_FOUND;
+            }
+            final int end = (int) Math.min(text.length(), (long) hi + searcher.length() - 1);
+            return searcher.indexIn(text, from, end);
+        }
+    }
+
+    /**
+     * Finds the first match of any search string, skipping ranges past a match already found.
+     */
+    private static final class FirstTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The text. */
+        private final transient CharSequence text;
+        /** The compiled search strings. */
+        private final transient MultiStringMatcher matcher;
+        /** The leftmost match found so far by any task, {@code Integer.MAX_VALUE} if none. */
+        private final AtomicInteger best;
+        /** Chars per leaf task. */
+        private final int chunk;
+        /** First index of the range, inclusive. */
+        private final int lo;
+        /** Last index of the range, exclusive. */
+        private final int hi;
+
+        FirstTask(final CharSequence text, final MultiStringMatcher matcher, final AtomicInteger best,
+                final int chunk, final int lo, final int hi) {
+            this.text = text;
+            this.matcher = matcher;
+            this.best = best;
+            this.chunk = chunk;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (lo >= best.get()) {
+                // a match to the left is already known
+                return;
+            }
+            if (hi - lo > chunk) {
+                final int mid = (lo + hi) >>> 1;
+                invokeAll(new FirstTask(text, matcher, best, chunk, lo, mid),
+                    new FirstTask(text, matcher, best, chunk, mid, hi));
+                return;
+            }
+            final int end = (int) Math.min(text.length(), (long) hi + matcher.maxLength() - 1);
+            final int found = matcher.indexIn(text, lo, end);
+            // a short search string may match past the range within the read-ahead
+            if (found != StringUtils.INDEX_NOT_FOUND && found < hi) {
+                best.accumulateAndGet(found, Math::min);
+            }
+        }
+    }
+
+    /**
+     * <p>{@code ParallelSearchUtils} instances should NOT be constructed in
+     * standard programming.</p>
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean
+     * instance to operate.</p>
+     */
+    public ParallelSearchUtils() {
+        super();
+    }
+
+    // Count matches
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Counts how many times the substring appears in the larger string, in parallel.</p>
+     *
+     * <p>Matches do not overlap, as in {@link StringUtils#countMatches(CharSequence, CharSequence)}.
+     * Each chunk counts greedily from its own start; when a match crosses into the next
+     * chunk, that chunk is recounted from the end of the match until its matches line
+     * up with the ones already found, which for most needles is immediately.</p>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param sub  the substring to count, may be null
+     * @return the number of occurrences, 0 if either CharSequence is {@code null}
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static int countMatches(final CharSequence str, final CharSequence sub) {
+        if (StringUtils.isEmpty(str) || StringUtils.isEmpty(sub)) {
+            return 0;
+        }
+        if (str.length() < SEQUENTIAL_THRESHOLD) {
+            return StringUtils.countMatches(str, sub);
+        }
+        final CountTask task = new CountTask(str, Searcher.compile(sub), chunk(str), 0, str.length());
+        return ForkJoinPool.commonPool().invoke(task).count;
+    }
+
+    // IndexOf
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first index of a CharSequence within a CharSequence, in parallel.</p>
+     *
+     * @param seq  the CharSequence to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the first index of the search CharSequence, -1 if no match or {@code null} string input
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static int indexOf(final CharSequence seq, final CharSequence searchSeq) {
+        if (seq == null || searchSeq == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (seq.length() < SEQUENTIAL_THRESHOLD) {
+            return StringUtils.indexOf(seq, searchSeq);
+        }
+        return indexOfAny(seq, MultiStringMatcher.compile(searchSeq));
+    }
+
+    // IndexOfAny
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first index of any of a set of potential substrings, in parallel.</p>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param searchStrs  the CharSequences to search for, may be null
+     * @return the first index of any of the searchStrs in str, -1 if no match
+     * @see StringUtils#indexOfAny(CharSequence, CharSequence...)
+     */
+    public static int indexOfAny(final CharSequence str, final CharSequence... searchStrs) {
+        if (str == null || searchStrs == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (str.length() < SEQUENTIAL_THRESHOLD) {
+            return StringUtils.indexOfAny(str, searchStrs);
+        }
+        return indexOfAny(str, MultiStringMatcher.compile(searchStrs));
+    }
+
+    /**
+     * <p>Finds the first index of any of the search strings compiled into the matcher, in parallel.</p>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param matcher  the compiled search strings, may be null
+     * @return the first index of any of the search strings, -1 if no match or null input
+     * @see StringUtils#indexOfAny(CharSequence, MultiStringMatcher)
+     */
+    public static int indexOfAny(final CharSequence str, final MultiStringMatcher matcher) {
+        if (str == null || matcher == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (str.length() < SEQUENTIAL_THRESHOLD || matcher.matchesEmpty() || matcher.matchesNothing()) {
+            return matcher.indexIn(str);
+        }
+        final AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new FirstTask(str, matcher, best, chunk(str), 0, str.length()));
+        return best.get() == Integer.MAX_VALUE ? StringUtils.INDEX_NOT_FOUND : best.get();
+    }
+
+    /**
+     * Gets the chunk size, a few chunks per worker so that uneven chunks balance out.
+     */
+    private static int chunk(final CharSequence text) {
+        return Math.max(MIN_CHUNK, text.length() / (ForkJoinPool.getCommonPoolParallelism() * 4));
+    }
+}
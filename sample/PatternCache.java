@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * <p>A bounded cache of compiled {@link Pattern}s, keyed by regex and flags.</p>
+ *
+ * <p>Lookups are lock free reads of a {@link ConcurrentHashMap}, keyed by the regex
+ * itself when there are no flags, so a hit allocates nothing. A hit sets the entry's
+ * reference bit, unless it is already set, rather than writing to anything shared by
+ * all entries. When a miss takes the cache past its capacity, a clock hand sweeps the
+ * entries from where it last stopped, clearing the bits it finds set and evicting the
+ * first entry whose bit is clear, so a pattern used since the hand last passed it is
+ * kept. Sweeps are serialized, lookups never wait for them, and concurrent misses may
+ * briefly hold a few entries more than the capacity. A capacity of 0 disables the
+ * cache, every call then compiles.</p>
+ *
+ * <p>The {@link #getShared() shared} instance serves the regex taking methods of
+ * {@link StringUtils}, such as {@link StringUtils#removeAll(String, String)}. An entry
+ * also holds the {@link LinearRegex} those methods compile from the same regex, so the
+ * capacity, disabling and counts cover both engines, and a regex compiled for both
+ * takes a single entry.</p>
+ *
+ * <pre>
+ * PatternCache cache = new PatternCache(2);
+ * cache.compile("[0-9]+");   // miss
+ * cache.compile("[0-9]+");   // hit
+ * cache.compile("\\s+");     // miss
+ * cache.compile("[a-z]");    // miss, evicts "\\s+", unused since added
+ * cache.getHitCount()        = 1
+ * cache.getMissCount()       = 3
+ * cache.getEvictionCount()   = 1
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class PatternCache {
+
+    /** The capacity of the shared instance unless changed. */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    /** The instance used by {@link StringUtils}. */
+    private static final PatternCache SHARED = new PatternCache(DEFAULT_CAPACITY);
+
+    /**
+     * <p>Gets the cache used by the regex taking methods of {@link StringUtils}.</p>
+     *
+     * @return the shared cache, never null
+     */
+    public static PatternCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * A regex with its flags.
+     */
+    private static final class Key {
+
+        final String regex;
+        final int flags;
+
+        Key(final String regex, final int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+    }
+
+    /**
+     * The compilations of a regex, each set on its first miss, and whether the entry was
+     * used since the clock hand last passed it.
+     */
+    private static final class Entry {
+
+        volatile Pattern pattern;
+        volatile LinearRegex linear;
+        volatile boolean referenced;
+    }
+
+    /** The cached patterns, keyed by the regex String without flags, by a {@link Key} with. */
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    /** The clock hand, guarded by the instance lock, null to start a new sweep. */
+    private Iterator<Map.Entry<Object, Entry>> hand;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /** The most entries kept, 0 if disabled. */
+    private volatile int capacity;
+
+    /**
+     * <p>Creates an empty cache.</p>
+     *
+     * @param capacity  the most patterns kept, 0 to disable caching
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public PatternCache(final int capacity) {
+        Validate.isTrue(capacity >= 0, "Capacity must not be negative");
+        this.capacity = capacity;
+    }
+
+    /**
+     * <p>Gets a compiled pattern for a regex, compiling it on a miss.</p>
+     *
+     * @param regex  the regular expression, not null
+     * @return the compiled pattern, never null
+     * @throws NullPointerException if {@code regex} is null
+     * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid
+     * @see Pattern#compile(String)
+     */
+    public Pattern compile(final String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * <p>Gets a compiled pattern for a regex and flags, compiling it on a miss.</p>
+     *
+     * @param regex  the regular expression, not null
+     * @param flags  the match flags, a bit mask of the {@link Pattern} flag constants
+     * @return the compiled pattern, never null
+     * @throws NullPointerException if {@code regex} is null
+     * @throws IllegalArgumentException if {@code flags} has bits other than the defined flags
+     * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid
+     * @see Pattern#compile(String, int)
+     */
+    public Pattern compile(final String regex, final int flags) {
+        Validate.notNull(regex, "regex");
+        final int max = capacity;
+        if (max == 0) {
+            misses.increment();
+            return Pattern.compile(regex, flags);
+        }
+        final Object key = flags == 0 ? regex : new Key(regex, flags);
+        final Entry entry = entries.get(key);
+        Pattern pattern = entry == null ? null : entry.pattern;
+        if (pattern != null) {
+            hit(entry);
+            return pattern;
+        }
+        misses.increment();
+        pattern = Pattern.compile(regex, flags);
+        store(key, entry, max).pattern = pattern;
+        return pattern;
+    }
+
+    /**
+     * Gets the {@link LinearRegex} compiled from a regex, compiling it on a miss.
+     */
+    LinearRegex linear(final String regex) {
+        final int max = capacity;
+        if (max == 0) {
+            misses.increment();
+            return LinearRegex.compile(regex);
+        }
+        final Entry entry = entries.get(regex);
+        LinearRegex linear = entry == null ? null : entry.linear;
+        if (linear != null) {
+            hit(entry);
+            return linear;
+        }
+        misses.increment();
+        linear = LinearRegex.compile(regex);
+        store(regex, entry, max).linear = linear;
+        return linear;
+    }
+
+    private void hit(final Entry entry) {
+        hits.increment();
+        // a plain read first, so a hot entry's line is not written on every hit
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+    }
+
+    /**
+     * Gets the entry to hold a compilation after a miss, adding one if there was none.
+     */
+    private Entry store(final Object key, final Entry found, final int max) {
+        if (found != null) {
+            return found;
+        }
+        final Entry fresh = new Entry();
+        final Entry raced = entries.putIfAbsent(key, fresh);
+        if (raced != null) {
+            return raced;
+        }
+        if (entries.size() > max) {
+            evict(max, key);
+        }
+        return fresh;
+    }
+
+    /**
+     * Sweeps the clock hand until the cache is within a capacity, sparing one key.
+     */
+    private synchronized void evict(final int max, final Object spared) {
+        // after two full turns every bit has been cleared once, evict whatever comes next
+        long patience = 2L * entries.size() + 2;
+        while (entries.size() > max) {
+            if (hand == null || !hand.hasNext()) {
+                hand = entries.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            final Map.Entry<Object, Entry> e = hand.next();
+            final Entry entry = e.getValue();
+            if (e.getKey().equals(spared)) {
+                continue;
+            }
+            if (entry.referenced && --patience > 0) {
+                entry.referenced = false;
+            } else if (entries.remove(e.getKey(), entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * <p>Gets the capacity.</p>
+     *
+     * @return the most patterns kept, 0 if caching is disabled
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * <p>Changes the capacity, evicting patterns not used lately until within it.</p>
+     *
+     * @param capacity  the most patterns kept, 0 to disable caching
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public void setCapacity(final int capacity) {
+        Validate.isTrue(capacity >= 0, "Capacity must not be negative");
+        this.capacity = capacity;
+        if (capacity == 0) {
+            clear();
+            return;
+        }
+        evict(capacity, null);
+    }
+
+    /**
+     * <p>Gets the number of cached patterns.</p>
+     *
+     * @return the number of cached patterns
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * <p>Removes every cached pattern, without counting evictions.</p>
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * <p>Gets the number of lookups answered from the cache.</p>
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * <p>Gets the number of lookups that compiled a pattern.</p>
+     *
+     * @return the number of misses, including every lookup while disabled
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * <p>Gets the number of patterns evicted to stay within the capacity.</p>
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * <p>Resets the hit, miss and eviction counts to 0.</p>
+     */
+    public void resetCounts() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache[size=" + size() + ", capacity=" + capacity + ", hits=" + getHitCount()
+            + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>A text prepared for running many {@link StringUtils} queries against it.</p>
+ *
+ * <p>The first query that needs it computes and caches a summary of the text: a 64-bit
+ * signature with one bit per char value modulo 64, whether the text is all ASCII or
+ * all in the Basic Multilingual Plane, and where its whitespace runs are. A case
+ * folded copy and its signature are computed the first time a case insensitive query
+ * runs. {@link StringUtils} has overloads taking a {@code PreparedText} that use them:
+ * a search string with a char whose bit is missing from the signature cannot be
+ * found and is rejected without a scan, case insensitive searches run over the folded
+ * copy, and blank and whitespace checks are answered from the runs.</p>
+ *
+ * <pre>
+ * PreparedText msg = PreparedText.of("ERR disk /dev/sda1 full");
+ * StringUtils.contains(msg, "sda1")           = true
+ * StringUtils.containsIgnoreCase(msg, "FULL") = true
+ * StringUtils.indexOfIgnoreCase(msg, "err")   = 0
+ * StringUtils.countMatches(msg, "d")          = 3
+ * StringUtils.isBlank(msg)                    = false
+ * </pre>
+ *
+ * <p>The text is copied when the instance is created, so later changes to a mutable
+ * CharSequence are not seen. Being a CharSequence itself, a {@code PreparedText}
+ * may be passed to any other method as well.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class PreparedText implements CharSequence {
+
+    /**
+     * What a single pass over the text finds.
+     */
+    private static final class Summary {
+
+        /** Bit {@code c & 63} is set for every char {@code c} of the text. */
+        final long signature;
+        /** Whether every char is below 128. */
+        final boolean ascii;
+        /** Whether no char is a surrogate. */
+        final boolean bmp;
+        /** Start and end index of each whitespace run, in pairs. */
+        final int[] whitespaceRuns;
+
+        Summary(final String text) {
+            long sig = 0;
+            boolean allAscii = true;
+            boolean noSurrogates = true;
+            int[] runs = new int[8];
+            int size = 0;
+            final int len = text.length();
+            for (int i = 0; i < len; i++) {
+                final char c = text.charAt(i);
+                sig |= 1L << (c & 63);
+                if (c >= 128) {
+                    allAscii = false;
+                    if (Character.isSurrogate(c)) {
+                        noSurrogates = false;
+                    }
+                }
+                if (Character.isWhitespace(c)) {
+                    if (size > 0 && runs[size - 1] == i) {
+                        runs[size - 1] = i + 1;
+                    } else {
+                        if (size == runs.length) {
+                            runs = Arrays.copyOf(runs, size << 1);
+                        }
+                        runs[size++] = i;
+                        runs[size++] = i + 1;
+                    }
+                }
+            }
+            this.signature = sig;
+            this.ascii = allAscii;
+            this.bmp = noSurrogates;
+            this.whitespaceRuns = Arrays.copyOf(runs, size);
+        }
+    }
+
+    /**
+     * The case folded copy of the text.
+     */
+    private static final class Folded {
+
+        /** The text with every char folded. */
+        final String text;
+        /** Bit {@code c & 63} is set for every folded char {@code c}. */
+        final long signature;
+
+        Folded(final String text) {
+            final char[] chars = text.toCharArray();
+            long sig = 0;
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Searcher.IgnoreCaseHorspool.fold(chars[i]);
+                sig |= 1L << (chars[i] & 63);
+            }
+            this.text = new String(chars);
+            this.signature = sig;
+        }
+    }
+
+    /**
+     * <p>Prepares a text for repeated queries.</p>
+     *
+     * @param text  the CharSequence to prepare, not null
+     * @return the prepared text, never null
+     * @throws NullPointerException if {@code text} is null
+     */
+    public static PreparedText of(final CharSequence text) {
+        Validate.notNull(text, "text");
+        return text instanceof PreparedText ? (PreparedText) text : new PreparedText(text.toString());
+    }
+
+    /** The text. */
+    private final String text;
+    /** Lazily computed summary, racy but idempotent as String.hashCode() is. */
+    private Summary summary;
+    /** Lazily computed folded copy, racy but idempotent as String.hashCode() is. */
+    private Folded folded;
+
+    private PreparedText(final String text) {
+        this.text = text;
+    }
+
+    private Summary summary() {
+        Summary s = summary;
+        if (s == null) {
+            s = new Summary(text);
+            summary = s;
+        }
+        return s;
+    }
+
+    private Folded folded() {
+        Folded f = folded;
+        if (f == null) {
+            f = new Folded(text);
+            folded = f;
+        }
+        return f;
+    }
+
+    /**
+     * <p>Checks if every char of the text is ASCII.</p>
+     *
+     * @return {@code true} if every char is below 128
+     */
+    public boolean isAscii() {
+        return summary().ascii;
+    }
+
+    /**
+     * <p>Checks if every char of the text is in the Basic Multilingual Plane.</p>
+     *
+     * @return {@code true} if the text has no surrogate chars
+     */
+    public boolean isBmp() {
+        return summary().bmp;
+    }
+
+    /**
+     * Checks the signature, {@code false} if the search string cannot occur in the text.
+     */
+    boolean mayContain(final CharSequence search) {
+        final long signature = summary().signature;
+        final int len = search.length();
+        for (int i = 0; i < len; i++) {
+            if ((signature & 1L << (search.charAt(i) & 63)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first case insensitive match of a non-empty search string in the folded copy.
+     */
+    int indexOfIgnoreCase(final CharSequence search) {
+        if (Searcher.hasSurrogates(search)) {
+            return Searcher.indexOfIgnoreCase(text, search, 0);
+        }
+        final Folded f = folded();
+        final char[] chars = CharSequenceUtils.toCharArray(search);
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Searcher.IgnoreCaseHorspool.fold(chars[i]);
+            if ((f.signature & 1L << (chars[i] & 63)) == 0) {
+                return StringUtils.INDEX_NOT_FOUND;
+            }
+        }
+        // a folded match is a candidate, as chars may fold alike without being equal ignoring case
+        final String folded = new String(chars);
+        for (int i = f.text.indexOf(folded); i >= 0; i = f.text.indexOf(folded, i + 1)) {
+            if (CharSequenceUtils.regionMatches(text, true, i, search, 0, chars.length)) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Checks if the text is empty or whitespace only.
+     */
+    boolean isBlank() {
+        final int[] runs = summary().whitespaceRuns;
+        return text.isEmpty() || runs.length == 2 && runs[0] == 0 && runs[1] == text.length();
+    }
+
+    /**
+     * Checks if the text has any whitespace.
+     */
+    boolean containsWhitespace() {
+        return summary().whitespaceRuns.length > 0;
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return text.subSequence(start, end);
+    }
+
+    /**
+     * <p>Gets the text.</p>
+     *
+     * @return the text as a String
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
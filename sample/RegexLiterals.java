@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Recognizes regular expressions that only match one literal string, and removes
+ * that string without going through {@link java.util.regex.Pattern}.</p>
+ *
+ * <p>A regex is literal when it has no metacharacters other than escapes of
+ * punctuation, the control escapes {@code \t \n \r \f \a \e}, and {@code \Q...\E}
+ * quoting. Anything else, including literals with surrogate chars which
+ * {@code Pattern} matches by code point, is left to {@code Pattern}, so results are
+ * identical either way. Classifications are cached per regex string.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+final class RegexLiterals {
+
+    /** Most regex strings classified at once before the cache starts over. */
+    static final int CACHE_SIZE = 256;
+
+    /** Chars with a meaning in a regex outside of a character class. */
+    private static final String METACHARS = "^$.|?*+()[]{}";
+
+    /** Cached value of a regex that is not a literal, compared by identity. */
+    private static final String NOT_LITERAL = new String();
+
+    /** Classified regex strings, mapped to their literal or {@link #NOT_LITERAL}. */
+    private static final ConcurrentHashMap<String, String> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the one string a regex matches.
+     *
+     * @param regex  the regular expression, may be null
+     * @return the literal the regex matches, null if it is not a literal or null
+     */
+    static String literalOf(final String regex) {
+        if (regex == null) {
+            return null;
+        }
+        String literal = CACHE.get(regex);
+        if (literal == null) {
+            literal = parse(regex);
+            if (literal == null) {
+                literal = NOT_LITERAL;
+            }
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(regex, literal);
+        }
+        return literal == NOT_LITERAL ? null : literal;
+    }
+
+    private static String parse(final String regex) {
+        final int len = regex.length();
+        final StringBuilder sb = new StringBuilder(len);
+        int i = 0;
+        while (i < len) {
+            final char c = regex.charAt(i);
+            if (c != '\\') {
+                if (METACHARS.indexOf(c) >= 0) {
+                    return null;
+                }
+                sb.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 == len) {
+                // a trailing backslash is a syntax error for Pattern to report
+                return null;
+            }
+            final char escaped = regex.charAt(i + 1);
+            if (escaped == 'Q') {
+                final int end = regex.indexOf("\\E", i + 2);
+                final int stop = end < 0 ? len : end;
+                sb.append(regex, i + 2, stop);
+                i = end < 0 ? len : end + 2;
+                continue;
+            }
+            final char ch = unescape(escaped);
+            if (ch == 0) {
+                return null;
+            }
+            sb.append(ch);
+            i += 2;
+        }
+        for (int j = 0; j < sb.length(); j++) {
+            if (Character.isSurrogate(sb.charAt(j))) {
+                return null;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gets the char an escape stands for, 0 if the escape is not a plain char.
+     */
+    private static char unescape(final char escaped) {
+        switch (escaped) {
+        case 't':
+            return '\t';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 'f':
+            return '\f';
+        case 'a':
+            return '\u0007';
+        case 'e':
+            return '\u001B';
+        default:
+            // a backslash before ASCII punctuation quotes it; letters and digits are constructs
+            return escaped < 128 && !Character.isLetterOrDigit(escaped) ? escaped : 0;
+        }
+    }
+
+    /**
+     * Removes every occurrence of a literal, left to right as a regex matcher does.
+     */
+    static String removeAll(final String text, final String literal) {
+        if (literal.isEmpty()) {
+            return text;
+        }
+        int idx = text.indexOf(literal);
+        if (idx < 0) {
+            return text;
+        }
+        final StringBuilder sb = new StringBuilder(text.length());
+        int from = 0;
+        while (idx >= 0) {
+            sb.append(text, from, idx);
+            from = idx + literal.length();
+            idx = text.indexOf(literal, from);
+        }
+        return sb.append(text, from, text.length()).toString();
+    }
+
+    /**
+     * Removes the first occurrence of a literal.
+     */
+    static String removeFirst(final String text, final String literal) {
+        final int idx = literal.isEmpty() ? -1 : text.indexOf(literal);
+        if (idx < 0) {
+            return text;
+        }
+        return text.substring(0, idx).concat(text.substring(idx + literal.length()));
+    }
+
+    private RegexLiterals() {
+    }
+}
@@ -0,0 +1,621 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>A substring search compiled from a single needle, for reuse across many texts.</p>
+ *
+ * <p>All tables are computed once, for both directions: short needles use
+ * Boyer-Moore-Horspool with a bad character shift table, long needles use the
+ * Crochemore-Perrin Two-Way algorithm, which needs constant extra space and
+ * never compares a text char more than twice. Backward searches run the same
+ * algorithms over the reversed needle and a reversed view of the text.</p>
+ *
+ * <p>The results are those of {@link String#indexOf(String, int)} and
+ * {@link String#lastIndexOf(String, int)}.</p>
+ *
+ * <pre>
+ * Searcher s = Searcher.compile("ab");
+ * s.indexIn("aabaabaa", 0)            = 1
+ * s.lastIndexIn("aabaabaa", 8)        = 4
+ * s.countIn("aabaabaa")               = 2
+ * s.ordinalIndexIn("aabaabaa", 2)     = 4
+ * s.lastOrdinalIndexIn("aabaabaa", 2) = 1
+ * </pre>
+ *
+ * <p>Instances are immutable and may be shared between threads.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class Searcher {
+
+    /**
+     * Needles longer than this use Two-Way instead of Horspool, bounding the
+     * worst case to linear time where a Horspool mismatch gets expensive.
+     */
+    static final int TWO_WAY_THRESHOLD = 32;
+
+    /**
+     * Case insensitive searches with fewer candidate starts than this check them one by
+     * one, as building the 256 entry shift table of {@link IgnoreCaseHorspool} costs
+     * about as much as checking this many starts.
+     */
+    static final int IGNORE_CASE_THRESHOLD = 32;
+
+    /**
+     * A search for one needle in one direction.
+     */
+    interface Kernel {
+
+        /**
+         * Finds the first match starting at or after {@code from} and ending at or before {@code end}.
+         *
+         * @param text  the text, not null
+         * @param from  the first candidate start, not negative
+         * @param end  the end of the text to search, at most its length
+         * @return the start of the match, or -1
+         */
+        int find(CharSequence text, int from, int end);
+    }
+
+    /**
+     * Boyer-Moore-Horspool, shifting on the text char under the last needle char.
+     */
+    static final class Horspool implements Kernel {
+
+        /** The needle. */
+        private final char[] needle;
+        /** Shift per low byte of the text char, the smallest shift of all chars sharing it. */
+        private final int[] shift = new int[256];
+
+        Horspool(final char[] needle) {
+            this.needle = needle;
+            final int last = needle.length - 1;
+            Arrays.fill(shift, needle.length);
+            for (int i = 0; i < last; i++) {
+                shift[needle[i] & 0xFF] = last - i;
+            }
+        }
+
+        @Override
+        public int find(final CharSequence text, final int from, final int end) {
+            final char[] x = needle;
+            final int last = x.length - 1;
+            final char lastChar = x[last];
+            final int max = end - x.length;
+            int j = from;
+            while (j <= max) {
+                final char c = text.charAt(j + last);
+                if (c == lastChar) {
+                    int i = 0;
+                    while (i < last && x[i] == text.charAt(j + i)) {
+                        i++;
+                    }
+                    if (i == last) {
+                        return j;
+                    }
+                }
+                j += shift[c & 0xFF];
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Crochemore-Perrin Two-Way string matching.
+     */
+    static final class TwoWay implements Kernel {
+
+        /** The needle. */
+        private final char[] needle;
+        /** Position of the critical factorization, the last index of the left half. */
+        private final int ell;
+        /** Period of the needle if it is periodic, otherwise the shift after a right half match. */
+        private final int period;
+        /** Whether the left half repeats within the period, enabling the memory of the last shift. */
+        private final boolean periodic;
+
+        TwoWay(final char[] needle) {
+            this.needle = needle;
+            final int m = needle.length;
+            final long lt = maximalSuffix(needle, false);
+            final long gt = maximalSuffix(needle, true);
+            final long chosen = (int) (lt >> 32) > (int) (gt >> 32) ? lt : gt;
+            final int l = (int) (chosen >> 32);
+            final int p = (int) chosen;
+            this.ell = l;
+            if (regionEquals(needle, 0, p, l + 1)) {
+                this.periodic = true;
+                this.period = p;
+            } else {
+                this.periodic = false;
+                this.period = Math.max(l + 1, m - l - 1) + 1;
+            }
+        }
+
+        /**
+         * Computes the maximal suffix of the needle for one ordering of the alphabet.
+         *
+         * @return the index before the suffix in the high word, its period in the low word
+         */
+        private static long maximalSuffix(final char[] x, final boolean reversed) {
+            final int m = x.length;
+            int ms = -1;
+            int j = 0;
+            int k = 1;
+            int p = 1;
+            while (j + k < m) {
+                final char a = x[j + k];
+                final char b = x[ms + k];
+                if (reversed ? a > b : a < b) {
+                    j += k;
+                    k = 1;
+                    p = j - ms;
+                } else if (a == b) {
+                    if (k != p) {
+                        k++;
+                    } else {
+                        j += p;
+                        k = 1;
+                    }
+                } else {
+                    ms = j;
+                    j = ms + 1;
+                    k = p = 1;
+                }
+            }
+            return (long) ms << 32 | p & 0xFFFFFFFFL;
+        }
+
+        private static boolean regionEquals(final char[] x, final int a, final int b, final int len) {
+            if (b + len > x.length) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (x[a + i] != x[b + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int find(final CharSequence text, final int from, final int end) {
+            final char[] x = needle;
+            final int m = x.length;
+            final int max = end - m;
+            int j = from;
+            if (periodic) {
+                int memory = -1;
+                while (j <= max) {
+                    int i = Math.max(ell, memory) + 1;
+                    while (i < m && x[i] == text.charAt(i + j)) {
+                        i++;
+                    }
+                    if (i >= m) {
+                        i = ell;
+                        while (i > memory && x[i] == text.charAt(i + j)) {
+                            i--;
+                        }
+                        if (i <= memory) {
+                            return j;
+                        }
+                        j += period;
+                        memory = m - period - 1;
+                    } else {
+                        j += i - ell;
+                        memory = -1;
+                    }
+                }
+            } else {
+                while (j <= max) {
+                    int i = ell + 1;
+                    while (i < m && x[i] == text.charAt(i + j)) {
+                        i++;
+                    }
+                    if (i >= m) {
+                        i = ell;
+                        while (i >= 0 && x[i] == text.charAt(i + j)) {
+                            i--;
+                        }
+                        if (i < 0) {
+                            return j;
+                        }
+                        j += period;
+                    } else {
+                        j += i - ell;
+                    }
+                }
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Boyer-Moore-Horspool over case folded chars, finding every window that
+     * {@link CharSequenceUtils#regionMatches(CharSequence, boolean, int, CharSequence, int, int)}
+     * with {@code ignoreCase} could match, and possibly a few more.
+     *
+     * <p>Unlike the other kernels, an instance keeps the folded text chars between calls
+     * and is meant for the searches of one thread.</p>
+     */
+    static final class IgnoreCaseHorspool implements Kernel {
+
+        /** The case folded needle. */
+        private final char[] needle;
+        /** Shift per low byte of the folded text char. */
+        private final int[] shift = new int[256];
+        /** Folded text chars keyed by position, masked by {@link #mask}. */
+        private final char[] folded;
+        /** The text position of each slot of {@link #folded}, -1 if none. */
+        private final int[] position;
+        /** Mask of a text position to its slot. */
+        private final int mask;
+        /** The text the slots were filled from. */
+        private CharSequence foldedText;
+
+        IgnoreCaseHorspool(final char[] needle) {
+            final char[] x = new char[needle.length];
+            for (int i = 0; i < needle.length; i++) {
+                x[i] = fold(needle[i]);
+            }
+            this.needle = x;
+            final int last = x.length - 1;
+            Arrays.fill(shift, x.length);
+            for (int i = 0; i < last; i++) {
+                shift[x[i] & 0xFF] = last - i;
+            }
+            // a window never spans more than m positions, so every text char is folded
+            // at most once per search
+            final int size = Integer.highestOneBit(x.length) << 1;
+            this.mask = size - 1;
+            this.folded = new char[size];
+            this.position = new int[size];
+        }
+
+        /**
+         * Folds a char so that chars equal ignoring case have equal folds. The converse does
+         * not always hold: {@code '\u0130'} and {@code '\u0131'} fold alike but are unequal
+         * for a CharSequence other than a String. Surrogates are left as they are, while a
+         * String compares supplementary code points ignoring case, so a fold match is only a
+         * candidate to be confirmed by {@code regionMatches}.
+         */
+        static char fold(final char c) {
+            if (c < 128) {
+                return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            }
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        @Override
+        public int find(final CharSequence text, final int from, final int end) {
+            final char[] x = needle;
+            final int m = x.length;
+            final int last = m - 1;
+            final int max = end - m;
+            if (text != foldedText) {
+                Arrays.fill(position, -1);
+                foldedText = text;
+            }
+            int j = from;
+            while (j <= max) {
+                final char c = foldedAt(text, j + last);
+                if (c == x[last]) {
+                    int i = 0;
+                    while (i < last && x[i] == foldedAt(text, j + i)) {
+                        i++;
+                    }
+                    if (i == last) {
+                        return j;
+                    }
+                }
+                j += shift[c & 0xFF];
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+
+        private char foldedAt(final CharSequence text, final int index) {
+            final int slot = index & mask;
+            if (position[slot] != index) {
+                folded[slot] = fold(text.charAt(index));
+                position[slot] = index;
+            }
+            return folded[slot];
+        }
+    }
+
+    /**
+     * A read-only view of a CharSequence back to front.
+     */
+    static final class Reversed implements CharSequence {
+
+        /** The viewed text. */
+        private final CharSequence text;
+        /** Index of the last char of the text. */
+        private final int last;
+
+        Reversed(final CharSequence text) {
+            this.text = text;
+            this.last = text.length() - 1;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return text.charAt(last - index);
+        }
+
+        @Override
+        public int length() {
+            return last + 1;
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return new StringBuilder(text.subSequence(last + 1 - end, last + 1 - start)).reverse();
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+
+    /**
+     * <p>Compiles a searcher for the given needle.</p>
+     *
+     * @param needle  the CharSequence to find, not null
+     * @return a searcher for the needle, never null
+     * @throws NullPointerException if {@code needle} is null
+     */
+    public static Searcher compile(final CharSequence needle) {
+        Validate.notNull(needle, "needle");
+        return new Searcher(CharSequenceUtils.toCharArray(needle));
+    }
+
+    /**
+     * <p>Finds the first case insensitive match of a non-empty needle.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @param needle  the CharSequence to find, not null nor empty
+     * @param from  the first candidate start, not negative
+     * @return the first index at or after {@code from}, -1 if no match
+     */
+    static int indexOfIgnoreCase(final CharSequence text, final CharSequence needle, final int from) {
+        final int len = needle.length();
+        final int max = text.length() - len;
+        if (max < from) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (max - from < IGNORE_CASE_THRESHOLD || hasSurrogates(needle)) {
+            // few starts, or supplementary chars that may fold across both halves, check every start
+            for (int i = from; i <= max; i++) {
+                if (CharSequenceUtils.regionMatches(text, true, i, needle, 0, len)) {
+                    return i;
+                }
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final Kernel kernel = new IgnoreCaseHorspool(CharSequenceUtils.toCharArray(needle));
+        for (int i = kernel.find(text, from, text.length()); i >= 0; i = kernel.find(text, i + 1, text.length())) {
+            if (CharSequenceUtils.regionMatches(text, true, i, needle, 0, len)) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Finds the last case insensitive match of a non-empty needle.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @param needle  the CharSequence to find, not null nor empty
+     * @param start  the last candidate start, not negative and at most {@code text.length() - needle.length()}
+     * @return the last index at or before {@code start}, -1 if no match
+     */
+    static int lastIndexOfIgnoreCase(final CharSequence text, final CharSequence needle, final int start) {
+        final int len = needle.length();
+        if (start < IGNORE_CASE_THRESHOLD || hasSurrogates(needle)) {
+            for (int i = start; i >= 0; i--) {
+                if (CharSequenceUtils.regionMatches(text, true, i, needle, 0, len)) {
+                    return i;
+                }
+            }
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final char[] reversed = CharSequenceUtils.toCharArray(needle);
+        ArrayUtils.reverse(reversed);
+        final int offset = text.length() - len;
+        final Kernel kernel = new IgnoreCaseHorspool(reversed);
+        final Reversed backward = new Reversed(text);
+        for (int found = kernel.find(backward, offset - start, text.length()); found >= 0;
+                found = kernel.find(backward, found + 1, text.length())) {
+            if (CharSequenceUtils.regionMatches(text, true, offset - found, needle, 0, len)) {
+                return offset - found;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Checks if a CharSequence holds a surrogate char.
+     */
+    static boolean hasSurrogates(final CharSequence cs) {
+        for (int i = 0; i < cs.length(); i++) {
+            if (Character.isSurrogate(cs.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Kernel kernel(final char[] needle) {
+        return needle.length > TWO_WAY_THRESHOLD ? new TwoWay(needle) : new Horspool(needle);
+    }
+
+    /** Length of the needle. */
+    private final int length;
+    /** Search towards the end of the text, null for an empty needle. */
+    private final Kernel forward;
+    /** Search over the reversed needle, null for an empty needle. */
+    private final Kernel backward;
+
+    private Searcher(final char[] needle) {
+        this.length = needle.length;
+        if (needle.length == 0) {
+            this.forward = null;
+            this.backward = null;
+        } else {
+            final char[] reversed = needle.clone();
+            ArrayUtils.reverse(reversed);
+            this.forward = kernel(needle);
+            this.backward = kernel(reversed);
+        }
+    }
+
+    /**
+     * <p>Gets the length of the needle.</p>
+     *
+     * @return the length of the needle
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * <p>Finds the first index of the needle in the text.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @param startPos  the start position, negative treated as zero
+     * @return the first index of the needle at or after {@code startPos}, -1 if no match
+     * @see String#indexOf(String, int)
+     */
+    public int indexIn(final CharSequence text, final int startPos) {
+        final int from = Math.max(startPos, 0);
+        if (length == 0) {
+            return Math.min(from, text.length());
+        }
+        return forward.find(text, from, text.length());
+    }
+
+    /**
+     * Finds the first match that starts at or after {@code from} and ends at or before {@code end}.
+     *
+     * @param text  the CharSequence to check, not null
+     * @param from  the first candidate start, not negative
+     * @param end  the end of the text to search, at most its length
+     * @return the first index of the needle in range, -1 if no match
+     */
+    int indexIn(final CharSequence text, final int from, final int end) {
+        if (length == 0) {
+            return from <= end ? from : StringUtils.INDEX_NOT_FOUND;
+        }
+        return forward.find(text, from, end);
+    }
+
+    /**
+     * <p>Finds the last index of the needle in the text.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @param startPos  the start position, matches starting after it are ignored
+     * @return the last index of the needle at or before {@code startPos}, -1 if no match
+     * @see String#lastIndexOf(String, int)
+     */
+    public int lastIndexIn(final CharSequence text, final int startPos) {
+        final int start = Math.min(startPos, text.length() - length);
+        if (start < 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (length == 0) {
+            return start;
+        }
+        // the last match at or before start is the first match of the reversed
+        // needle in the reversed text at or after the mirrored position
+        final int found = backward.find(new Reversed(text), text.length() - length - start, text.length());
+        return found < 0 ? StringUtils.INDEX_NOT_FOUND : text.length() - length - found;
+    }
+
+    /**
+     * <p>Counts the non-overlapping matches of the needle in the text.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @return the number of matches, 0 for an empty needle
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public int countIn(final CharSequence text) {
+        if (length == 0) {
+            return 0;
+        }
+        int count = 0;
+        int idx = 0;
+        while ((idx = forward.find(text, idx, text.length())) != StringUtils.INDEX_NOT_FOUND) {
+            count++;
+            idx += length;
+        }
+        return count;
+    }
+
+    /**
+     * <p>Finds the n-th index of the needle in the text, overlapping matches counted.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @param ordinal  the n-th match to find
+     * @return the n-th index of the needle, -1 if no match or {@code ordinal} is not positive
+     * @see StringUtils#ordinalIndexOf(CharSequence, CharSequence, int)
+     */
+    public int ordinalIndexIn(final CharSequence text, final int ordinal) {
+        return ordinalIndexIn(text, ordinal, false);
+    }
+
+    /**
+     * <p>Finds the n-th last index of the needle in the text, overlapping matches counted.</p>
+     *
+     * @param text  the CharSequence to check, not null
+     * @param ordinal  the n-th last match to find
+     * @return the n-th last index of the needle, -1 if no match or {@code ordinal} is not positive
+     * @see StringUtils#lastOrdinalIndexOf(CharSequence, CharSequence, int)
+     */
+    public int lastOrdinalIndexIn(final CharSequence text, final int ordinal) {
+        return ordinalIndexIn(text, ordinal, true);
+    }
+
+    // Shared code between ordinalIndexIn(CharSequence, int) and lastOrdinalIndexIn(CharSequence, int)
+    private int ordinalIndexIn(final CharSequence text, final int ordinal, final boolean lastIndex) {
+        if (ordinal <= 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (length == 0) {
+            return lastIndex ? text.length() : 0;
+        }
+        int found = 0;
+        int index = lastIndex ? text.length() : StringUtils.INDEX_NOT_FOUND;
+        do {
+            if (lastIndex) {
+                index = lastIndexIn(text, index - 1);
+            } else {
+                index = indexIn(text, index + 1);
+            }
+            if (index < 0) {
+                return index;
+            }
+            found++;
+        } while (found < ordinal);
+        return index;
+    }
+}
@@ -0,0 +1,598 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>All the pairs of two string sets within a Levenshtein distance of each other.</p>
+ *
+ * <p>Instead of comparing every pair, candidates are generated by filters that never
+ * drop a pair within the distance, and only those are verified with the threshold of
+ * {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)}:</p>
+ * <ul>
+ *  <li>the length filter, two strings differing in length by more than {@code k} being
+ *   further apart than {@code k};</li>
+ *  <li>the prefix filter. The {@value #GRAM}-grams of each string are ordered rarest
+ *   first across both sets, and its prefix is the shortest run of them that {@code k}
+ *   edits cannot all change, an edit changing only the grams overlapping it. Two strings
+ *   within {@code k} then share a gram between their prefixes, so only the right strings
+ *   indexed under a prefix gram of a left string are considered. Rare grams seldom
+ *   overlap, so a prefix is often {@code k + 1} grams, and at most {@code GRAM * k + 1};</li>
+ *  <li>the count filter, two strings within {@code k} sharing at least the larger gram
+ *   count less {@code GRAM * k} grams.</li>
+ * </ul>
+ * <p>Strings whose grams {@code k} edits could all change have no prefix, and are compared
+ * with every string passing the length filter.</p>
+ *
+ * <p>The left strings are split into chunks probed and verified as tasks on the common
+ * {@link ForkJoinPool}.</p>
+ *
+ * <pre>
+ * SimilarityJoin join = SimilarityJoin.of(Arrays.asList("pump-07", "valve-3", "boiler"),
+ *     Arrays.asList("boiler", "pump-7", "pmp-07", "valve-30"), 1);
+ * join.size()         = 4
+ * join.getLeft(0)     = 0
+ * join.getRight(0)    = 1
+ * join.getDistance(0) = 1
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class SimilarityJoin {
+
+    /** Length of the grams. */
+    static final int GRAM = 3;
+
+    /** Smallest number of left strings probed by one task. */
+    static final int MIN_CHUNK = 1024;
+
+    /**
+     * <p>Finds all the pairs of a left and a right string within a Levenshtein distance.</p>
+     *
+     * @param left  the left CharSequences, each getting its position in iteration order as id,
+     *  not null and without null elements
+     * @param right  the right CharSequences, each getting its position in iteration order as id,
+     *  not null and without null elements
+     * @param maxDistance  the greatest distance of interest, not negative
+     * @return the pairs ordered by left then right id, never null
+     * @throws NullPointerException if {@code left}, {@code right} or any of their elements is null
+     * @throws IllegalArgumentException if {@code maxDistance} is negative
+     */
+    public static SimilarityJoin of(final Collection<? extends CharSequence> left,
+        final Collection<? extends CharSequence> right, final int maxDistance) {
+        Validate.notNull(left, "left");
+        Validate.notNull(right, "right");
+        Validate.isTrue(maxDistance >= 0, "Distance must not be negative");
+        final String[] lefts = strings(left);
+        final String[] rights = strings(right);
+        final Grams grams = new Grams(lefts, rights, maxDistance);
+        final RightIndex index = new RightIndex(rights, grams);
+        final int chunk = Math.max(MIN_CHUNK, lefts.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        final Pairs pairs = ForkJoinPool.commonPool().invoke(
+            new ProbeTask(lefts, grams, index, maxDistance, chunk, 0, lefts.length));
+        return new SimilarityJoin(pairs);
+    }
+
+    private static String[] strings(final Collection<? extends CharSequence> seqs) {
+        final String[] strings = new String[seqs.size()];
+        int i = 0;
+        for (final CharSequence seq : seqs) {
+            Validate.notNull(seq, "element");
+            strings[i++] = seq.toString();
+        }
+        return strings;
+    }
+
+    /**
+     * Gets the number of grams of a string of some length.
+     */
+    static int gramCount(final int length) {
+        return Math.max(length - GRAM + 1, 0);
+    }
+
+    /**
+     * The grams of every string, as ranks in a global order, rarest first.
+     */
+    private static final class Grams {
+
+        /** The grams of left string {@code i}, ascending, are {@code left[leftStart[i]]} to {@code left[leftStart[i + 1] - 1]}. */
+        final int[] leftStart;
+        final int[] left;
+        /** Number of grams in the prefix of each left string, 0 if it has none. */
+        final int[] leftPrefix;
+        /** The grams of each right string, as for the left ones. */
+        final int[] rightStart;
+        final int[] right;
+        final int[] rightPrefix;
+        /** Number of distinct grams. */
+        final int distinct;
+
+        Grams(final String[] lefts, final String[] rights, final int maxDistance) {
+            leftStart = starts(lefts);
+            rightStart = starts(rights);
+            left = new int[leftStart[lefts.length]];
+            right = new int[rightStart[rights.length]];
+            // number the distinct grams in order of appearance, counting occurrences
+            long[] keys = new long[1024];
+            int[] slots = new int[1024];
+            Arrays.fill(slots, -1);
+            int[] counts = new int[256];
+            int size = 0;
+            for (int side = 0; side < 2; side++) {
+                final String[] strings = side == 0 ? lefts : rights;
+                final int[] grams = side == 0 ? left : right;
+                int g = 0;
+                for (final String s : strings) {
+                    for (int i = 0; i + GRAM <= s.length(); i++) {
+                        if (size == keys.length >>> 1) {
+                            // keep the table at most half full
+                            final long[] oldKeys = keys;
+                            final int[] oldSlots = slots;
+                            keys = new long[oldKeys.length << 1];
+                            slots = new int[keys.length];
+                            Arrays.fill(slots, -1);
+                            for (int j = 0; j < oldKeys.length; j++) {
+                                if (oldSlots[j] != -1) {
+                                    final int slot = find(keys, slots, oldKeys[j]);
+                                    keys[slot] = oldKeys[j];
+                                    slots[slot] = oldSlots[j];
+                                }
+                            }
+                        }
+                        final long key = (long) s.charAt(i) << 32 | (long) s.charAt(i + 1) << 16 | s.charAt(i + 2);
+                        final int slot = find(keys, slots, key);
+                        if (slots[slot] == -1) {
+                            if (size == counts.length) {
+                                counts = Arrays.copyOf(counts, size << 1);
+                            }
+                            keys[slot] = key;
+                            slots[slot] = size++;
+                        }
+                        counts[slots[slot]]++;
+                        grams[g++] = slots[slot];
+                    }
+                }
+            }
+            distinct = size;
+            // rank them by count, rarest first
+            final long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = (long) counts[i] << 32 | i;
+            }
+            Arrays.sort(order);
+            final int[] rank = new int[size];
+            for (int r = 0; r < size; r++) {
+                rank[(int) order[r]] = r;
+            }
+            leftPrefix = rerank(left, leftStart, rank, maxDistance);
+            rightPrefix = rerank(right, rightStart, rank, maxDistance);
+        }
+
+        private static int[] starts(final String[] strings) {
+            final int[] start = new int[strings.length + 1];
+            long total = 0;
+            for (int i = 0; i < strings.length; i++) {
+                total += gramCount(strings[i].length());
+                Validate.isTrue(total <= Integer.MAX_VALUE, "Strings too long to join: %d grams", total);
+                start[i + 1] = (int) total;
+            }
+            return start;
+        }
+
+        /**
+         * Replaces each string's grams, in order of position, by their ranks in ascending
+         * order, and finds the length of each prefix.
+         */
+        private static int[] rerank(final int[] grams, final int[] start, final int[] rank, final int maxDistance) {
+            final int strings = start.length - 1;
+            final int[] prefix = new int[strings];
+            long[] order = new long[16];
+            int[] starts = new int[16];
+            for (int i = 0; i < strings; i++) {
+                final int from = start[i];
+                final int count = start[i + 1] - from;
+                if (order.length < count) {
+                    order = new long[Math.max(count, order.length << 1)];
+                    starts = new int[order.length];
+                }
+                for (int g = 0; g < count; g++) {
+                    order[g] = (long) rank[grams[from + g]] << 32 | g;
+                }
+                Arrays.sort(order, 0, count);
+                for (int g = 0; g < count; g++) {
+                    grams[from + g] = (int) (order[g] >>> 32);
+                }
+                // grow the prefix until maxDistance edits cannot change all of its grams
+                for (int g = 0; g < count; g++) {
+                    final int position = (int) order[g];
+                    int j = g;
+                    while (j > 0 && starts[j - 1] > position) {
+                        starts[j] = starts[j - 1];
+                        j--;
+                    }
+                    starts[j] = position;
+                    if (g >= maxDistance && editsToChangeAll(starts, g + 1) > maxDistance) {
+                        prefix[i] = g + 1;
+                        break;
+                    }
+                }
+            }
+            return prefix;
+        }
+
+        /**
+         * Gets the fewest edits changing every one of some grams, given their ascending
+         * start positions: a greedy stabbing of the intervals the grams cover.
+         */
+        private static int editsToChangeAll(final int[] starts, final int count) {
+            int edits = 0;
+            int reach = -1;
+            for (int g = 0; g < count; g++) {
+                if (starts[g] > reach) {
+                    edits++;
+                    reach = starts[g] + GRAM - 1;
+                }
+            }
+            return edits;
+        }
+
+        /**
+         * Finds the slot of a key, or the empty slot where it belongs.
+         */
+        private static int find(final long[] keys, final int[] slots, final long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            final int mask = keys.length - 1;
+            int slot = (int) (h ^ h >>> 32) & mask;
+            while (slots[slot] != -1 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * The right strings by the grams of their prefixes, and by length.
+     */
+    private static final class RightIndex {
+
+        final String[] strings;
+        /** Length of each right string. */
+        final int[] lengths;
+        /** The right strings with a prefix holding gram {@code g} are {@code postings[postingStart[g]]} onwards. */
+        final int[] postingStart;
+        final int[] postings;
+        /** Right strings ordered by length, those of length {@code n} starting at {@code lengthStart[n]}. */
+        final int[] byLength;
+        final int[] lengthStart;
+        /** Right strings without a prefix, ordered by length, as {@link #byLength}. */
+        final int[] shortByLength;
+        final int[] shortLengthStart;
+
+        RightIndex(final String[] strings, final Grams grams) {
+            this.strings = strings;
+            lengths = new int[strings.length];
+            for (int id = 0; id < strings.length; id++) {
+                lengths[id] = strings[id].length();
+            }
+            final int[] prefix = grams.rightPrefix;
+            final int[] start = grams.rightStart;
+            final int[] right = grams.right;
+            // each distinct gram of a prefix lists the string once
+            postingStart = new int[grams.distinct + 1];
+            for (int id = 0; id < strings.length; id++) {
+                if (prefix[id] > 0) {
+                    for (int i = start[id]; i < start[id] + prefix[id]; i++) {
+                        if (i == start[id] || right[i] != right[i - 1]) {
+                            postingStart[right[i] + 1]++;
+                        }
+                    }
+                }
+            }
+            for (int g = 0; g < grams.distinct; g++) {
+                postingStart[g + 1] += postingStart[g];
+            }
+            postings = new int[postingStart[grams.distinct]];
+            final int[] posted = Arrays.copyOf(postingStart, grams.distinct);
+            for (int id = 0; id < strings.length; id++) {
+                if (prefix[id] > 0) {
+                    for (int i = start[id]; i < start[id] + prefix[id]; i++) {
+                        if (i == start[id] || right[i] != right[i - 1]) {
+                            postings[posted[right[i]]++] = id;
+                        }
+                    }
+                }
+            }
+            int longest = 0;
+            for (final String s : strings) {
+                longest = Math.max(longest, s.length());
+            }
+            lengthStart = new int[longest + 2];
+            shortLengthStart = new int[longest + 2];
+            for (int id = 0; id < strings.length; id++) {
+                lengthStart[strings[id].length() + 1]++;
+                if (prefix[id] == 0) {
+                    shortLengthStart[strings[id].length() + 1]++;
+                }
+            }
+            for (int n = 0; n <= longest; n++) {
+                lengthStart[n + 1] += lengthStart[n];
+                shortLengthStart[n + 1] += shortLengthStart[n];
+            }
+            byLength = new int[strings.length];
+            shortByLength = new int[shortLengthStart[longest + 1]];
+            final int[] filled = Arrays.copyOf(lengthStart, longest + 1);
+            final int[] shortFilled = Arrays.copyOf(shortLengthStart, longest + 1);
+            for (int id = 0; id < strings.length; id++) {
+                final int n = strings[id].length();
+                byLength[filled[n]++] = id;
+                if (prefix[id] == 0) {
+                    shortByLength[shortFilled[n]++] = id;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pairs found by a task, ordered by left then right id.
+     */
+    private static final class Pairs {
+
+        int[] left = new int[16];
+        int[] right = new int[16];
+        int[] distance = new int[16];
+        int size;
+
+        void add(final int l, final int r, final int d) {
+            if (size == left.length) {
+                left = Arrays.copyOf(left, size << 1);
+                right = Arrays.copyOf(right, size << 1);
+                distance = Arrays.copyOf(distance, size << 1);
+            }
+            left[size] = l;
+            right[size] = r;
+            distance[size++] = d;
+        }
+
+        Pairs append(final Pairs next) {
+            if (next.size == 0) {
+                return this;
+            }
+            if (size == 0) {
+                return next;
+            }
+            left = Arrays.copyOf(left, size + next.size);
+            right = Arrays.copyOf(right, size + next.size);
+            distance = Arrays.copyOf(distance, size + next.size);
+            System.arraycopy(next.left, 0, left, size, next.size);
+            System.arraycopy(next.right, 0, right, size, next.size);
+            System.arraycopy(next.distance, 0, distance, size, next.size);
+            size += next.size;
+            return this;
+        }
+    }
+
+    /**
+     * Finds the pairs of a range of left strings.
+     */
+    private static final class ProbeTask extends RecursiveTask<Pairs> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient String[] lefts;
+        private final transient Grams grams;
+        private final transient RightIndex index;
+        private final int maxDistance;
+        /** Left strings per leaf task. */
+        private final int chunk;
+        /** First left id of the range, inclusive. */
+        private final int lo;
+        /** Last left id of the range, exclusive. */
+        private final int hi;
+
+        ProbeTask(final String[] lefts, final Grams grams, final RightIndex index, final int maxDistance,
+            final int chunk, final int lo, final int hi) {
+            this.lefts = lefts;
+            this.grams = grams;
+            this.index = index;
+            this.maxDistance = maxDistance;
+            this.chunk = chunk;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Pairs compute() {
+            if (hi - lo <= chunk) {
+                return probe();
+            }
+            final int mid = (lo + hi) >>> 1;
+            final ProbeTask first = new ProbeTask(lefts, grams, index, maxDistance, chunk, lo, mid);
+            first.fork();
+            final Pairs second = new ProbeTask(lefts, grams, index, maxDistance, chunk, mid, hi).compute();
+            return first.join().append(second);
+        }
+
+        private Pairs probe() {
+            final Pairs pairs = new Pairs();
+            final MyersLevenshtein kernel = new MyersLevenshtein();
+            final int k = maxDistance;
+            int[] candidates = new int[64];
+            for (int id = lo; id < hi; id++) {
+                final String s = lefts[id];
+                final int n = s.length();
+                final int minLength = Math.max(n - k, 0);
+                final int maxLength = Math.min(n + k, index.lengthStart.length - 2);
+                int count = 0;
+                final int prefix = grams.leftPrefix[id];
+                if (prefix == 0) {
+                    // every right string passing the length filter
+                    if (minLength <= maxLength) {
+                        final int from = index.lengthStart[minLength];
+                        final int to = index.lengthStart[maxLength + 1];
+                        candidates = fit(candidates, to - from);
+                        System.arraycopy(index.byLength, from, candidates, 0, to - from);
+                        count = to - from;
+                    }
+                } else {
+                    // the right strings sharing a prefix gram, and those without a prefix passing the length filter
+                    final int[] left = grams.left;
+                    final int start = grams.leftStart[id];
+                    for (int i = start; i < start + prefix; i++) {
+                        if (i > start && left[i] == left[i - 1]) {
+                            continue;
+                        }
+                        final int from = index.postingStart[left[i]];
+                        final int to = index.postingStart[left[i] + 1];
+                        candidates = fit(candidates, count + to - from);
+                        for (int p = from; p < to; p++) {
+                            final int r = index.postings[p];
+                            if (Math.abs(index.lengths[r] - n) <= k) {
+                                candidates[count++] = r;
+                            }
+                        }
+                    }
+                    final int shortMax = Math.min(maxLength, index.shortLengthStart.length - 2);
+                    if (minLength <= shortMax) {
+                        final int from = index.shortLengthStart[minLength];
+                        final int to = index.shortLengthStart[shortMax + 1];
+                        candidates = fit(candidates, count + to - from);
+                        System.arraycopy(index.shortByLength, from, candidates, count, to - from);
+                        count += to - from;
+                    }
+                }
+                Arrays.sort(candidates, 0, count);
+                for (int c = 0; c < count; c++) {
+                    final int r = candidates[c];
+                    if (c > 0 && r == candidates[c - 1] || !sharesEnough(id, r, n, index.lengths[r])) {
+                        continue;
+                    }
+                    final int d = kernel.distance(s, index.strings[r], k);
+                    if (d >= 0) {
+                        pairs.add(id, r, d);
+                    }
+                }
+            }
+            return pairs;
+        }
+
+        /**
+         * Applies the count filter.
+         */
+        private boolean sharesEnough(final int l, final int r, final int leftLength, final int rightLength) {
+            final int needed = gramCount(Math.max(leftLength, rightLength)) - GRAM * maxDistance;
+            if (needed <= 0) {
+                return true;
+            }
+            final int[] left = grams.left;
+            final int[] right = grams.right;
+            int i = grams.leftStart[l];
+            final int iEnd = grams.leftStart[l + 1];
+            int j = grams.rightStart[r];
+            final int jEnd = grams.rightStart[r + 1];
+            int shared = 0;
+            // stop once the grams left cannot make up the shortfall
+            while (shared + Math.min(iEnd - i, jEnd - j) >= needed) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    if (++shared >= needed) {
+                        return true;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            return false;
+        }
+
+        private static int[] fit(final int[] array, final int size) {
+            return size <= array.length ? array : Arrays.copyOf(array, Math.max(size, array.length << 1));
+        }
+    }
+
+    /** Left id per pair. */
+    private final int[] left;
+    /** Right id per pair. */
+    private final int[] right;
+    /** Distance per pair. */
+    private final int[] distance;
+    /** Number of pairs. */
+    private final int size;
+
+    private SimilarityJoin(final Pairs pairs) {
+        this.left = pairs.left;
+        this.right = pairs.right;
+        this.distance = pairs.distance;
+        this.size = pairs.size;
+    }
+
+    /**
+     * <p>Gets the number of pairs.</p>
+     *
+     * @return the number of pairs within the distance
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Gets the left id of a pair.</p>
+     *
+     * @param i  the index of the pair, from 0 to {@code size() - 1}
+     * @return the id of the left string
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public int getLeft(final int i) {
+        return left[checkIndex(i)];
+    }
+
+    /**
+     * <p>Gets the right id of a pair.</p>
+     *
+     * @param i  the index of the pair, from 0 to {@code size() - 1}
+     * @return the id of the right string
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public int getRight(final int i) {
+        return right[checkIndex(i)];
+    }
+
+    /**
+     * <p>Gets the Levenshtein distance of a pair.</p>
+     *
+     * @param i  the index of the pair, from 0 to {@code size() - 1}
+     * @return the distance between its left and right strings
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public int getDistance(final int i) {
+        return distance[checkIndex(i)];
+    }
+
+    private int checkIndex(final int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return i;
+    }
+}
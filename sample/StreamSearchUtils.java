@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * <p>Search operations over character streams that are too large to hold in memory.</p>
+ *
+ * <p>Each method answers as the {@link StringUtils} method of the same name would on
+ * the full text of the stream, but reads it through a single fixed-size buffer.
+ * The search strings are compiled into a {@link MultiStringMatcher} whose automaton
+ * state is carried from one buffer to the next, so matches spanning a buffer
+ * boundary are found without keeping any earlier text. Memory use is constant
+ * regardless of the size of the stream.</p>
+ *
+ * <p>Offsets are absolute char offsets from the point where the stream was when the
+ * method was called, and are {@code long} since streams may exceed
+ * {@code Integer.MAX_VALUE} chars. Channels are decoded with the given charset,
+ * replacing malformed input as {@link String#String(byte[], Charset)} does, and
+ * offsets then count decoded chars.</p>
+ *
+ * <p>Streams are read only as far as needed to answer, and are never closed.
+ * A {@code null} stream is handled quietly as a {@code null} CharSequence is by
+ * {@link StringUtils}.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public class StreamSearchUtils {
+
+    /** Chars read from the stream at a time. */
+    static final int BUFFER_SIZE = 8192;
+
+    /**
+     * <p>{@code StreamSearchUtils} instances should NOT be constructed in
+     * standard programming.</p>
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean
+     * instance to operate.</p>
+     */
+    public StreamSearchUtils() {
+        super();
+    }
+
+    // ContainsAny
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Checks if the stream contains any of the CharSequences in the given array.</p>
+     *
+     * @param reader  the stream to check, may be null
+     * @param searchCharSequences  the CharSequences to search for, may be null
+     * @return {@code true} if any of the search CharSequences are found, {@code false} otherwise
+     * @throws IOException if reading fails
+     * @see StringUtils#containsAny(CharSequence, CharSequence...)
+     */
+    public static boolean containsAny(final Reader reader, final CharSequence... searchCharSequences) throws IOException {
+        if (reader == null || ArrayUtils.isEmpty(searchCharSequences)) {
+            return false;
+        }
+        return containsAny(reader, MultiStringMatcher.compile(searchCharSequences));
+    }
+
+    /**
+     * <p>Checks if the stream contains any of the search strings compiled into the matcher.</p>
+     *
+     * @param reader  the stream to check, may be null
+     * @param matcher  the compiled search strings, may be null
+     * @return {@code true} if any of the search strings are found, {@code false} otherwise
+     * @throws IOException if reading fails
+     * @see StringUtils#containsAny(CharSequence, MultiStringMatcher)
+     */
+    public static boolean containsAny(final Reader reader, final MultiStringMatcher matcher) throws IOException {
+        if (reader == null || matcher == null || matcher.matchesNothing()) {
+            return false;
+        }
+        final char[] buffer = new char[BUFFER_SIZE];
+        if (matcher.matchesEmpty()) {
+            // an empty search string is found in any non-empty text
+            return read(reader, buffer) > 0;
+        }
+        int state = matcher.initialState();
+        int n;
+        while ((n = read(reader, buffer)) != -1) {
+            for (int i = 0; i < n; i++) {
+                state = matcher.nextState(state, buffer[i]);
+                if (matcher.matchLength(state) > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Checks if the decoded channel contains any of the CharSequences in the given array.</p>
+     *
+     * @param channel  the channel to check, may be null
+     * @param charset  the charset to decode with, null means the platform default
+     * @param searchCharSequences  the CharSequences to search for, may be null
+     * @return {@code true} if any of the search CharSequences are found, {@code false} otherwise
+     * @throws IOException if reading fails
+     * @see StringUtils#containsAny(CharSequence, CharSequence...)
+     */
+    public static boolean containsAny(final ReadableByteChannel channel, final Charset charset,
+            final CharSequence... searchCharSequences) throws IOException {
+        return containsAny(toReader(channel, charset), searchCharSequences);
+    }
+
+    // Count matches
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Counts how many times the substring appears in the stream.</p>
+     *
+     * <p>Matches do not overlap, as in {@link StringUtils#countMatches(CharSequence, CharSequence)}.</p>
+     *
+     * @param reader  the stream to check, may be null
+     * @param sub  the substring to count, may be null
+     * @return the number of occurrences, 0 if either argument is {@code null} or {@code sub} is empty
+     * @throws IOException if reading fails
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static long countMatches(final Reader reader, final CharSequence sub) throws IOException {
+        if (reader == null || StringUtils.isEmpty(sub)) {
+            return 0;
+        }
+        final MultiStringMatcher matcher = MultiStringMatcher.compile(sub);
+        final char[] buffer = new char[BUFFER_SIZE];
+        final int initial = matcher.initialState();
+        int state = initial;
+        long count = 0;
+        int n;
+        while ((n = read(reader, buffer)) != -1) {
+            for (int i = 0; i < n; i++) {
+                state = matcher.nextState(state, buffer[i]);
+                if (matcher.matchLength(state) > 0) {
+                    count++;
+                    // restart after the match so that matches do not overlap
+                    state = initial;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * <p>Counts how many times the substring appears in the decoded channel.</p>
+     *
+     * @param channel  the channel to check, may be null
+     * @param charset  the charset to decode with, null means the platform default
+     * @param sub  the substring to count, may be null
+     * @return the number of occurrences, 0 if either argument is {@code null} or {@code sub} is empty
+     * @throws IOException if reading fails
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static long countMatches(final ReadableByteChannel channel, final Charset charset,
+            final CharSequence sub) throws IOException {
+        return countMatches(toReader(channel, charset), sub);
+    }
+
+    // IndexOf
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first offset of a CharSequence within the stream.</p>
+     *
+     * @param reader  the stream to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the first offset of the search CharSequence, -1 if no match or {@code null} input
+     * @throws IOException if reading fails
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static long indexOf(final Reader reader, final CharSequence searchSeq) throws IOException {
+        if (reader == null || searchSeq == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        return indexOfAny(reader, MultiStringMatcher.compile(searchSeq));
+    }
+
+    /**
+     * <p>Finds the first offset of a CharSequence within the decoded channel.</p>
+     *
+     * @param channel  the channel to check, may be null
+     * @param charset  the charset to decode with, null means the platform default
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the first offset of the search CharSequence, -1 if no match or {@code null} input
+     * @throws IOException if reading fails
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static long indexOf(final ReadableByteChannel channel, final Charset charset,
+            final CharSequence searchSeq) throws IOException {
+        return indexOf(toReader(channel, charset), searchSeq);
+    }
+
+    // IndexOfAny
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first offset of any of a set of potential substrings within the stream.</p>
+     *
+     * @param reader  the stream to check, may be null
+     * @param searchStrs  the CharSequences to search for, may be null
+     * @return the first offset of any of the searchStrs, -1 if no match
+     * @throws IOException if reading fails
+     * @see StringUtils#indexOfAny(CharSequence, CharSequence...)
+     */
+    public static long indexOfAny(final Reader reader, final CharSequence... searchStrs) throws IOException {
+        if (reader == null || searchStrs == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        return indexOfAny(reader, MultiStringMatcher.compile(searchStrs));
+    }
+
+    /**
+     * <p>Finds the first offset of any of the search strings compiled into the matcher
+     * within the stream.</p>
+     *
+     * @param reader  the stream to check, may be null
+     * @param matcher  the compiled search strings, may be null
+     * @return the first offset of any of the search strings, -1 if no match
+     * @throws IOException if reading fails
+     * @see StringUtils#indexOfAny(CharSequence, MultiStringMatcher)
+     */
+    public static long indexOfAny(final Reader reader, final MultiStringMatcher matcher) throws IOException {
+        if (reader == null || matcher == null || matcher.matchesNothing()) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (matcher.matchesEmpty()) {
+            return 0;
+        }
+        final int maxLength = matcher.maxLength();
+        final char[] buffer = new char[BUFFER_SIZE];
+        int state = matcher.initialState();
+        long best = Long.MAX_VALUE;
+        long offset = 0;
+        int n;
+        while ((n = read(reader, buffer)) != -1) {
+            for (int i = 0; i < n; i++) {
+                state = matcher.nextState(state, buffer[i]);
+                final long pos = offset + i;
+                final int matched = matcher.matchLength(state);
+                if (matched > 0 && pos + 1 - matched < best) {
+                    best = pos + 1 - matched;
+                }
+                // a match ending later cannot start before pos + 2 - maxLength
+                if (best <= pos + 2 - maxLength) {
+                    return best;
+                }
+            }
+            offset += n;
+        }
+        return best == Long.MAX_VALUE ? StringUtils.INDEX_NOT_FOUND : best;
+    }
+
+    /**
+     * <p>Finds the first offset of any of a set of potential substrings within the decoded channel.</p>
+     *
+     * @param channel  the channel to check, may be null
+     * @param charset  the charset to decode with, null means the platform default
+     * @param searchStrs  the CharSequences to search for, may be null
+     * @return the first offset of any of the searchStrs, -1 if no match
+     * @throws IOException if reading fails
+     * @see StringUtils#indexOfAny(CharSequence, CharSequence...)
+     */
+    public static long indexOfAny(final ReadableByteChannel channel, final Charset charset,
+            final CharSequence... searchStrs) throws IOException {
+        return indexOfAny(toReader(channel, charset), searchStrs);
+    }
+
+    // Internals
+    //-----------------------------------------------------------------------
+    private static int read(final Reader reader, final char[] buffer) throws IOException {
+        int n;
+        do {
+            n = reader.read(buffer);
+        } while (n == 0);
+        return n;
+    }
+
+    private static Reader toReader(final ReadableByteChannel channel, final Charset charset) {
+        if (channel == null) {
+            return null;
+        }
+        final Charset cs = charset == null ? Charset.defaultCharset() : charset;
+        return Channels.newReader(channel, cs.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+    }
+}
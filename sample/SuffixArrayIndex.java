@@ -0,0 +1,524 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>A full-text index over one large immutable text.</p>
+ *
+ * <p>The index is a suffix array, every suffix start of the text sorted in
+ * lexicographic order, built in linear time with the SA-IS algorithm. All
+ * occurrences of a search string are then one contiguous range of the array, found
+ * by two binary searches that compare at most the length of the search string per
+ * step, and skip the chars already known to match both ends of the range, in
+ * O(m log n) char comparisons at worst, however large the text is.</p>
+ *
+ * <p>{@link #contains(CharSequence)} and {@link #indexOf(CharSequence)} then take the
+ * smallest position in the range from a sparse table of block minima, in constant
+ * time plus a scan of at most two partial blocks. {@link #countMatches(CharSequence)}
+ * is the size of the range unless the substring can overlap itself.
+ * {@link #findAll(CharSequence)}, and {@code countMatches} for a substring that can
+ * overlap itself, put the occ positions of the range in text order, adding
+ * O(occ + min(occ log occ, n / 64)) time.</p>
+ *
+ * <p>The text and the array are held in primitive arrays, using 6 bytes per char of
+ * text plus about log2(n / 64) / 16 bytes per char for the sparse table.
+ * {@link #getBuildTimeNanos()} and {@link #getMemoryBytes()} report the cost of
+ * building the index.</p>
+ *
+ * <pre>
+ * SuffixArrayIndex idx = SuffixArrayIndex.build("abracadabra");
+ * idx.indexOf("bra")      = 1
+ * idx.countMatches("abra") = 2
+ * idx.findAll("a")        = [0, 3, 5, 7, 10]
+ * idx.contains("cad")     = true
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public final class SuffixArrayIndex {
+
+    /** Suffix array entries per precomputed minimum. */
+    private static final int BLOCK = 64;
+
+    /**
+     * A string SA-IS sorts the suffixes of, ending in a unique smallest sentinel.
+     */
+    private interface Sequence {
+
+        int get(int index);
+    }
+
+    /**
+     * <p>Builds the index over a text.</p>
+     *
+     * @param text  the CharSequence to index, not null
+     * @return the index, never null
+     * @throws NullPointerException if {@code text} is null
+     */
+    public static SuffixArrayIndex build(final CharSequence text) {
+        Validate.notNull(text, "text");
+        return new SuffixArrayIndex(CharSequenceUtils.toCharArray(text));
+    }
+
+    /** The text. */
+    private final char[] text;
+    /** Start of every suffix of the text, in lexicographic order of the suffixes, then one unused entry. */
+    private final int[] suffixes;
+    /**
+     * Sparse table of block minima: row {@code j} holds the smallest suffix start of
+     * every run of {@code 2^j} blocks of {@link #BLOCK} entries of {@link #suffixes}.
+     */
+    private final int[][] blockMin;
+    /** Nanoseconds it took to build the index. */
+    private final long buildTimeNanos;
+
+    private SuffixArrayIndex(final char[] text) {
+        final long start = System.nanoTime();
+        final int n = text.length;
+        this.text = text;
+        // the sentinel is 0, so every char is shifted up by one
+        final int[] sa = new int[n + 1];
+        sais(i -> i == n ? 0 : text[i] + 1, sa, n + 1, Character.MAX_VALUE + 2);
+        // drop the sentinel suffix, always sorted first, leaving the last entry unused
+        System.arraycopy(sa, 1, sa, 0, n);
+        this.suffixes = sa;
+        final int blocks = (n + BLOCK - 1) / BLOCK;
+        final int[] mins = new int[blocks];
+        Arrays.fill(mins, Integer.MAX_VALUE);
+        for (int i = 0; i < n; i++) {
+            mins[i / BLOCK] = Math.min(mins[i / BLOCK], suffixes[i]);
+        }
+        final int[][] table = new int[blocks > 0 ? 32 - Integer.numberOfLeadingZeros(blocks) : 0][];
+        if (table.length > 0) {
+            table[0] = mins;
+        }
+        for (int j = 1; j < table.length; j++) {
+            final int[] prev = table[j - 1];
+            final int half = 1 << j - 1;
+            final int[] row = new int[blocks - (1 << j) + 1];
+            for (int b = 0; b < row.length; b++) {
+                row[b] = Math.min(prev[b], prev[b + half]);
+            }
+            table[j] = row;
+        }
+        this.blockMin = table;
+        this.buildTimeNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Sorts the suffixes of {@code s}, whose last element is a unique smallest sentinel,
+     * into {@code sa} with the SA-IS induced sorting algorithm of Nong, Zhang and Chan.
+     *
+     * @param s  the string, values below {@code k}
+     * @param sa  receives the suffix array in its first {@code n} entries
+     * @param n  the length of the string including the sentinel
+     * @param k  the alphabet size
+     */
+    private static void sais(final Sequence s, final int[] sa, final int n, final int k) {
+        // S-type suffixes are smaller than the next suffix, L-type ones larger
+        final boolean[] stype = new boolean[n];
+        stype[n - 1] = true;
+        for (int i = n - 2; i >= 0; i--) {
+            final int a = s.get(i);
+            final int b = s.get(i + 1);
+            stype[i] = a < b || a == b && stype[i + 1];
+        }
+        final int[] bucket = new int[k];
+
+        // sort the LMS substrings by inducing from their unsorted starts
+        bucketEnds(s, n, bucket);
+        Arrays.fill(sa, 0, n, -1);
+        for (int i = 1; i < n; i++) {
+            if (isLms(stype, i)) {
+                sa[--bucket[s.get(i)]] = i;
+            }
+        }
+        induce(s, sa, n, stype, bucket);
+
+        // compact the sorted LMS positions and name the distinct LMS substrings
+        int n1 = 0;
+        for (int i = 0; i < n; i++) {
+            if (isLms(stype, sa[i])) {
+                sa[n1++] = sa[i];
+            }
+        }
+        Arrays.fill(sa, n1, n, -1);
+        int name = 0;
+        int prev = -1;
+        for (int i = 0; i < n1; i++) {
+            final int pos = sa[i];
+            boolean diff = false;
+            for (int d = 0; d < n; d++) {
+                if (prev == -1 || s.get(pos + d) != s.get(prev + d) || stype[pos + d] != stype[prev + d]) {
+                    diff = true;
+                    break;
+                }
+                if (d > 0 && (isLms(stype, pos + d) || isLms(stype, prev + d))) {
+                    break;
+                }
+            }
+            if (diff) {
+                name++;
+                prev = pos;
+            }
+            // LMS positions are at least two apart, so pos / 2 is a unique slot
+            sa[n1 + pos / 2] = name - 1;
+        }
+        for (int i = n - 1, j = n - 1; i >= n1; i--) {
+            if (sa[i] >= 0) {
+                sa[j--] = sa[i];
+            }
+        }
+
+        // sort the LMS suffixes through the reduced string in the tail of sa
+        final int offset = n - n1;
+        if (name < n1) {
+            sais(i -> sa[offset + i], sa, n1, name);
+        } else {
+            for (int i = 0; i < n1; i++) {
+                sa[sa[offset + i]] = i;
+            }
+        }
+
+        // induce the full order from the sorted LMS suffixes
+        for (int i = 1, j = 0; i < n; i++) {
+            if (isLms(stype, i)) {
+                sa[offset + j++] = i;
+            }
+        }
+        for (int i = 0; i < n1; i++) {
+            sa[i] = sa[offset + sa[i]];
+        }
+        Arrays.fill(sa, n1, n, -1);
+        bucketEnds(s, n, bucket);
+        for (int i = n1 - 1; i >= 0; i--) {
+            final int j = sa[i];
+            sa[i] = -1;
+            sa[--bucket[s.get(j)]] = j;
+        }
+        induce(s, sa, n, stype, bucket);
+    }
+
+    private static boolean isLms(final boolean[] stype, final int i) {
+        return i > 0 && stype[i] && !stype[i - 1];
+    }
+
+    /**
+     * Induces L-type suffixes left to right from bucket starts, then S-type suffixes
+     * right to left from bucket ends.
+     */
+    private static void induce(final Sequence s, final int[] sa, final int n, final boolean[] stype,
+            final int[] bucket) {
+        bucketStarts(s, n, bucket);
+        for (int i = 0; i < n; i++) {
+            final int j = sa[i] - 1;
+            if (j >= 0 && !stype[j]) {
+                sa[bucket[s.get(j)]++] = j;
+            }
+        }
+        bucketEnds(s, n, bucket);
+        for (int i = n - 1; i >= 0; i--) {
+            final int j = sa[i] - 1;
+            if (j >= 0 && stype[j]) {
+                sa[--bucket[s.get(j)]] = j;
+            }
+        }
+    }
+
+    private static void bucketStarts(final Sequence s, final int n, final int[] bucket) {
+        Arrays.fill(bucket, 0);
+        for (int i = 0; i < n; i++) {
+            bucket[s.get(i)]++;
+        }
+        int sum = 0;
+        for (int c = 0; c < bucket.length; c++) {
+            final int size = bucket[c];
+            bucket[c] = sum;
+            sum += size;
+        }
+    }
+
+    private static void bucketEnds(final Sequence s, final int n, final int[] bucket) {
+        Arrays.fill(bucket, 0);
+        for (int i = 0; i < n; i++) {
+            bucket[s.get(i)]++;
+        }
+        int sum = 0;
+        for (int c = 0; c < bucket.length; c++) {
+            sum += bucket[c];
+            bucket[c] = sum;
+        }
+    }
+
+    /**
+     * <p>Gets the length of the indexed text.</p>
+     *
+     * @return the number of chars in the text
+     */
+    public int length() {
+        return text.length;
+    }
+
+    /**
+     * <p>Gets the time it took to build the index.</p>
+     *
+     * @return the build time in nanoseconds
+     */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    /**
+     * <p>Gets the size of the arrays held by the index, the text included.</p>
+     *
+     * @return the approximate heap footprint in bytes
+     */
+    public long getMemoryBytes() {
+        long bytes = 2L * text.length + 4L * suffixes.length;
+        for (final int[] row : blockMin) {
+            bytes += 4L * row.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * <p>Checks if the text contains a search CharSequence.</p>
+     *
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return true if the text contains the search CharSequence, false if not or {@code null} input
+     * @see StringUtils#contains(CharSequence, CharSequence)
+     */
+    public boolean contains(final CharSequence searchSeq) {
+        return indexOf(searchSeq) >= 0;
+    }
+
+    /**
+     * <p>Finds the first index of a CharSequence within the text.</p>
+     *
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the first index of the search CharSequence, -1 if no match or {@code null} input
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public int indexOf(final CharSequence searchSeq) {
+        if (searchSeq == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (searchSeq.length() == 0) {
+            return 0;
+        }
+        final char[] needle = CharSequenceUtils.toCharArray(searchSeq);
+        final int lo = bound(needle, false);
+        final int hi = bound(needle, true);
+        if (lo == hi) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        // the range is unsorted by position; whole blocks are covered by the sparse table
+        final int firstBlock = (lo + BLOCK - 1) / BLOCK;
+        final int lastBlock = hi / BLOCK;
+        if (firstBlock >= lastBlock) {
+            return scanMin(lo, hi);
+        }
+        final int j = 31 - Integer.numberOfLeadingZeros(lastBlock - firstBlock);
+        final int[] row = blockMin[j];
+        final int blocksMin = Math.min(row[firstBlock], row[lastBlock - (1 << j)]);
+        return Math.min(blocksMin, Math.min(scanMin(lo, firstBlock * BLOCK), scanMin(lastBlock * BLOCK, hi)));
+    }
+
+    private int scanMin(final int from, final int to) {
+        int min = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, suffixes[i]);
+        }
+        return min;
+    }
+
+    /**
+     * <p>Counts how many times the substring appears in the text.</p>
+     *
+     * <p>Matches do not overlap, as in {@link StringUtils#countMatches(CharSequence, CharSequence)}.
+     * A substring that cannot overlap itself is counted from the size of its range alone,
+     * in O(m log n). One that can, such as {@code "aa"} or {@code "abab"}, is counted
+     * greedily over its occ positions in text order, adding O(occ + min(occ log occ, n / 64)).</p>
+     *
+     * @param sub  the substring to count, may be null
+     * @return the number of occurrences, 0 if {@code sub} is {@code null} or empty
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public int countMatches(final CharSequence sub) {
+        if (StringUtils.isEmpty(sub)) {
+            return 0;
+        }
+        final char[] needle = CharSequenceUtils.toCharArray(sub);
+        final int lo = bound(needle, false);
+        final int hi = bound(needle, true);
+        if (!hasBorder(needle)) {
+            return hi - lo;
+        }
+        if (hi - lo <= text.length / BLOCK) {
+            int count = 0;
+            int end = 0;
+            for (final int p : sortedPositions(lo, hi)) {
+                if (p >= end) {
+                    count++;
+                    end = p + needle.length;
+                }
+            }
+            return count;
+        }
+        final long[] marks = marks(lo, hi);
+        int count = 0;
+        int end = 0;
+        for (int w = 0; w < marks.length; w++) {
+            long bits = marks[w];
+            while (bits != 0) {
+                final int p = w << 6 | Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (p >= end) {
+                    count++;
+                    end = p + needle.length;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * <p>Finds every index of a CharSequence within the text.</p>
+     *
+     * <p>Matches may overlap, as in {@link StringUtils#findAll(CharSequence, CharSequence)}.</p>
+     *
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the ascending indexes of the search CharSequence, an empty array if none,
+     *  {@code null} or empty input
+     * @see StringUtils#findAll(CharSequence, CharSequence)
+     */
+    public int[] findAll(final CharSequence searchSeq) {
+        if (StringUtils.isEmpty(searchSeq)) {
+            return ArrayUtils.EMPTY_INT_ARRAY;
+        }
+        final char[] needle = CharSequenceUtils.toCharArray(searchSeq);
+        return sortedPositions(bound(needle, false), bound(needle, true));
+    }
+
+    /**
+     * Gets the suffix starts of a range of the suffix array in ascending order, sorting a
+     * range of at most n / 64 entries and going through {@link #marks(int, int)} otherwise.
+     */
+    private int[] sortedPositions(final int lo, final int hi) {
+        if (hi - lo <= text.length / BLOCK) {
+            final int[] positions = Arrays.copyOfRange(suffixes, lo, hi);
+            Arrays.sort(positions);
+            return positions;
+        }
+        final long[] marks = marks(lo, hi);
+        final int[] positions = new int[hi - lo];
+        int count = 0;
+        for (int w = 0; w < marks.length; w++) {
+            long bits = marks[w];
+            while (bits != 0) {
+                positions[count++] = w << 6 | Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Marks the suffix starts of a range of the suffix array in a bitmap of the text, so
+     * that they can be read in text order in O(occ + n / 64).
+     */
+    private long[] marks(final int lo, final int hi) {
+        final long[] marks = new long[(text.length + 63) >>> 6];
+        for (int i = lo; i < hi; i++) {
+            final int p = suffixes[i];
+            marks[p >>> 6] |= 1L << p;
+        }
+        return marks;
+    }
+
+    /**
+     * Finds the first entry of the suffix array whose suffix is not smaller than the
+     * needle, or with {@code upper} the first one that neither is smaller nor starts with it.
+     */
+    private int bound(final char[] needle, final boolean upper) {
+        final int m = needle.length;
+        final int n = text.length;
+        int lo = 0;
+        int hi = n;
+        // chars of the needle known to match the suffixes just outside lo and hi
+        int loMatch = 0;
+        int hiMatch = 0;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            final int p = suffixes[mid];
+            // every suffix between the two ends shares the smaller of their matches
+            int k = Math.min(loMatch, hiMatch);
+            while (k < m && p + k < n && text[p + k] == needle[k]) {
+                k++;
+            }
+            final boolean before;
+            if (k == m) {
+                before = upper;
+            } else if (p + k == n) {
+                // the suffix is a proper prefix of the needle
+                before = true;
+            } else {
+                before = text[p + k] < needle[k];
+            }
+            if (before) {
+                lo = mid + 1;
+                loMatch = k;
+            } else {
+                hi = mid;
+                hiMatch = k;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Checks if a proper prefix of the needle is also a suffix of it, the only way two
+     * occurrences can overlap.
+     */
+    private static boolean hasBorder(final char[] needle) {
+        final int m = needle.length;
+        final int[] border = new int[m + 1];
+        border[0] = -1;
+        int k = -1;
+        for (int i = 0; i < m; i++) {
+            while (k >= 0 && needle[k] != needle[i]) {
+                k = border[k];
+            }
+            border[i + 1] = ++k;
+        }
+        return border[m] > 0;
+    }
+
+    /**
+     * <p>Gets a summary of the index.</p>
+     *
+     * @return the length, build time and memory footprint
+     */
+    @Override
+    public String toString() {
+        return "SuffixArrayIndex[length=" + text.length + ", buildTimeNanos=" + buildTimeNanos
+            + ", memoryBytes=" + getMemoryBytes() + "]";
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>An inverted index answering which of many short strings contain a substring.</p>
+ *
+ * <p>Every record is split into trigrams, runs of three case folded chars, and each
+ * trigram keeps the ids of the records holding it as a posting list of
+ * variable-length encoded gaps in a {@code byte[]}. A query looks up the trigrams of
+ * the search string, intersects their posting lists, and confirms each remaining
+ * candidate with {@link StringUtils#contains(CharSequence, CharSequence)} or
+ * {@link StringUtils#containsIgnoreCase(CharSequence, CharSequence)}, so results are
+ * exactly those of a loop over all records. Search strings shorter than three chars
+ * have no trigrams and are checked against every record.</p>
+ *
+ * <p>Records get ascending ids as they are added. A removed record is dropped from
+ * query results at once, and its postings are purged when the records removed since
+ * the last purge outnumber the live ones. A purge rebuilds the postings of the live
+ * records only, so over a run of removals it costs amortized constant work per
+ * removal, plus a null check per id ever handed out.</p>
+ *
+ * <pre>
+ * TrigramIndex idx = new TrigramIndex();
+ * idx.add("Boiler Temp North"); // 0
+ * idx.add("boiler pressure");   // 1
+ * idx.add("Chiller Temp");      // 2
+ * idx.search("Temp")            = [0, 2]
+ * idx.searchIgnoreCase("BOILER") = [0, 1]
+ * </pre>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.11
+ */
+public final class TrigramIndex {
+
+    /** Removed records below which postings are never purged. */
+    private static final int MIN_PURGE = 1024;
+
+    /** Marks an empty slot of the trigram table. */
+    private static final int FREE = -1;
+
+    /** The records by id, null once removed. */
+    private String[] records = new String[16];
+    /** Number of ids handed out. */
+    private int size;
+    /** Number of records not removed. */
+    private int live;
+    /** Number of records removed since the postings were last purged. */
+    private int stale;
+
+    /** Open addressing table of trigram keys. */
+    private long[] keys;
+    /** Posting list number per slot of {@link #keys}, {@link #FREE} if empty. */
+    private int[] lists;
+    /** Number of trigrams in the table. */
+    private int trigrams;
+    /** Gap encoded record ids per posting list. */
+    private byte[][] postings;
+    /** Bytes used per posting list. */
+    private int[] postingBytes;
+    /** Number of ids per posting list. */
+    private int[] postingCounts;
+    /** Last id added per posting list. */
+    private int[] lastIds;
+
+    /**
+     * <p>Creates an empty index.</p>
+     */
+    public TrigramIndex() {
+        clearPostings();
+    }
+
+    private void clearPostings() {
+        keys = new long[64];
+        lists = new int[64];
+        Arrays.fill(lists, FREE);
+        trigrams = 0;
+        postings = new byte[16][];
+        postingBytes = new int[16];
+        postingCounts = new int[16];
+        lastIds = new int[16];
+    }
+
+    /**
+     * <p>Adds a record to the index.</p>
+     *
+     * @param record  the CharSequence to add, not null
+     * @return the id of the record
+     * @throws NullPointerException if {@code record} is null
+     */
+    public int add(final CharSequence record) {
+        Validate.notNull(record, "record");
+        final int id = size;
+        if (id == records.length) {
+            records = Arrays.copyOf(records, id << 1);
+        }
+        final String text = record.toString();
+        records[id] = text;
+        size++;
+        live++;
+        addPostings(id, text);
+        return id;
+    }
+
+    /**
+     * <p>Removes a record from the index.</p>
+     *
+     * @param id  the id of the record
+     * @return {@code true} if the record was in the index
+     */
+    public boolean remove(final int id) {
+        if (id < 0 || id >= size || records[id] == null) {
+            return false;
+        }
+        records[id] = null;
+        live--;
+        stale++;
+        if (stale >= MIN_PURGE && stale > live) {
+            purge();
+        }
+        return true;
+    }
+
+    /**
+     * <p>Gets a record.</p>
+     *
+     * @param id  the id of the record
+     * @return the record, {@code null} if there is none with that id
+     */
+    public String get(final int id) {
+        return id < 0 || id >= size ? null : records[id];
+    }
+
+    /**
+     * <p>Gets the number of records in the index.</p>
+     *
+     * @return the number of records added and not removed
+     */
+    public int size() {
+        return live;
+    }
+
+    /**
+     * <p>Finds the records containing a search CharSequence.</p>
+     *
+     * @param searchStr  the CharSequence to find, may be null
+     * @return the ascending ids of the records containing it, empty if none or {@code null} input
+     * @see StringUtils#contains(CharSequence, CharSequence)
+     */
+    public int[] search(final CharSequence searchStr) {
+        return search(searchStr, false);
+    }
+
+    /**
+     * <p>Finds the records containing a search CharSequence irrespective of case.</p>
+     *
+     * @param searchStr  the CharSequence to find, may be null
+     * @return the ascending ids of the records containing it, empty if none or {@code null} input
+     * @see StringUtils#containsIgnoreCase(CharSequence, CharSequence)
+     */
+    public int[] searchIgnoreCase(final CharSequence searchStr) {
+        return search(searchStr, true);
+    }
+
+    private int[] search(final CharSequence searchStr, final boolean ignoreCase) {
+        if (searchStr == null) {
+            return ArrayUtils.EMPTY_INT_ARRAY;
+        }
+        final int[] candidates = candidates(searchStr, ignoreCase);
+        int count = 0;
+        for (final int id : candidates) {
+            final String record = records[id];
+            if (record != null && (ignoreCase ? StringUtils.containsIgnoreCase(record, searchStr)
+                : StringUtils.contains(record, searchStr))) {
+                candidates[count++] = id;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Gets the ids of the records holding every trigram of the search string, a superset
+     * of the records containing it with or without case. Ignoring case, trigrams with a
+     * surrogate are skipped, as a String compares supplementary chars by their case folded
+     * code points rather than char by char.
+     */
+    private int[] candidates(final CharSequence searchStr, final boolean ignoreCase) {
+        final int len = searchStr.length();
+        // posting lists of the trigrams, shortest first
+        final int[] found = new int[Math.max(len - 2, 0)];
+        int count = 0;
+        for (int i = 0; i + 2 < len; i++) {
+            if (ignoreCase && (Character.isSurrogate(searchStr.charAt(i))
+                || Character.isSurrogate(searchStr.charAt(i + 1)) || Character.isSurrogate(searchStr.charAt(i + 2)))) {
+                continue;
+            }
+            final int slot = slot(key(searchStr, i));
+            if (lists[slot] == FREE) {
+                return ArrayUtils.EMPTY_INT_ARRAY;
+            }
+            found[count++] = lists[slot];
+        }
+        if (count == 0) {
+            final int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        final long[] bySize = new long[count];
+        for (int i = 0; i < count; i++) {
+            bySize[i] = (long) postingCounts[found[i]] << 32 | found[i];
+        }
+        Arrays.sort(bySize);
+        int[] result = decode((int) bySize[0]);
+        for (int i = 1; i < count && result.length > 0; i++) {
+            // a repeated trigram sorts next to itself
+            if (bySize[i] != bySize[i - 1]) {
+                result = intersect(result, decode((int) bySize[i]));
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(final int[] a, final int[] b) {
+        final int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    private static long key(final CharSequence text, final int i) {
+        final long a = Searcher.IgnoreCaseHorspool.fold(text.charAt(i));
+        final long b = Searcher.IgnoreCaseHorspool.fold(text.charAt(i + 1));
+        final long c = Searcher.IgnoreCaseHorspool.fold(text.charAt(i + 2));
+        return a << 32 | b << 16 | c;
+    }
+
+    /**
+     * Finds the slot of a key, or the free slot where it belongs.
+     */
+    private int slot(final long key) {
+        final int mask = keys.length - 1;
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (lists[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void addPostings(final int id, final String text) {
+        for (int i = 0; i + 2 < text.length(); i++) {
+            final long key = key(text, i);
+            int slot = slot(key);
+            if (lists[slot] == FREE) {
+                if ((trigrams + 1) * 2 > keys.length) {
+                    growTable();
+                    slot = slot(key);
+                }
+                keys[slot] = key;
+                lists[slot] = newList();
+                trigrams++;
+            }
+            append(lists[slot], id);
+        }
+    }
+
+    private void growTable() {
+        final long[] oldKeys = keys;
+        final int[] oldLists = lists;
+        keys = new long[oldKeys.length << 1];
+        lists = new int[oldKeys.length << 1];
+        Arrays.fill(lists, FREE);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldLists[i] != FREE) {
+                final int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                lists[slot] = oldLists[i];
+            }
+        }
+    }
+
+    private int newList() {
+        final int list = trigrams;
+        if (list == postings.length) {
+            final int capacity = list << 1;
+            postings = Arrays.copyOf(postings, capacity);
+            postingBytes = Arrays.copyOf(postingBytes, capacity);
+            postingCounts = Arrays.copyOf(postingCounts, capacity);
+            lastIds = Arrays.copyOf(lastIds, capacity);
+        }
+        postings[list] = new byte[4];
+        postingBytes[list] = 0;
+        postingCounts[list] = 0;
+        lastIds[list] = -1;
+        return list;
+    }
+
+    /**
+     * Appends an id to a posting list as the gap to the previous id, seven bits per byte.
+     */
+    private void append(final int list, final int id) {
+        if (lastIds[list] == id) {
+            // the trigram occurs twice in the record
+            return;
+        }
+        int gap = id - lastIds[list];
+        lastIds[list] = id;
+        postingCounts[list]++;
+        byte[] bytes = postings[list];
+        int pos = postingBytes[list];
+        if (pos + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, pos + 5));
+            postings[list] = bytes;
+        }
+        while (gap >= 0x80) {
+            bytes[pos++] = (byte) (gap | 0x80);
+            gap >>>= 7;
+        }
+        bytes[pos++] = (byte) gap;
+        postingBytes[list] = pos;
+    }
+
+    private int[] decode(final int list) {
+        final byte[] bytes = postings[list];
+        final int end = postingBytes[list];
+        final int[] ids = new int[postingCounts[list]];
+        int id = -1;
+        int pos = 0;
+        int n = 0;
+        while (pos < end) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            id += gap;
+            ids[n++] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * Rebuilds the posting lists from the live records, keeping their ids.
+     */
+    private void purge() {
+        stale = 0;
+        clearPostings();
+        for (int id = 0; id < size; id++) {
+            if (records[id] != null) {
+                addPostings(id, records[id]);
+            }
+        }
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>Levenshtein matching of a query typed one char at a time against many candidates.</p>
+ *
+ * <p>The candidates are merged into a trie, so a prefix shared by many of them is one
+ * path of nodes. The distance matrix between the query and every candidate then has one
+ * row per query char and one column per trie node, and each row depends on the previous
+ * one only. Appending a char to the query computes one new row, deleting the last char
+ * drops one, so a keystroke costs one row instead of
+ * {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence)} from scratch
+ * against every candidate.</p>
+ *
+ * <p>Rows are kept short two ways. A node deeper than the query length plus the maximum
+ * distance is further than that from the query, so it only joins a row once the query is
+ * long enough, and until then the deepest node of the row on its path stands in for it.
+ * And the smallest value on the path to a candidate's node is the distance from the query
+ * to the closest prefix of the candidate, which never decreases as the query grows. Once
+ * it is above the maximum distance for every candidate below a node, the node is dropped
+ * from all later rows, until deleting chars brings back the row it was dropped from.</p>
+ *
+ * <pre>
+ * TypeAheadMatcher matcher = new TypeAheadMatcher(Arrays.asList("pump-07", "pump-17", "valve-3"), 1);
+ * matcher.append("pu");
+ * matcher.prefixMatches() = [0, 1]
+ * matcher.append("mp-0");
+ * matcher.prefixMatches() = [0, 1]
+ * matcher.matches()       = [0]
+ * matcher.deleteLast();
+ * matcher.getQuery()      = "pump-"
+ * </pre>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.11
+ */
+public final class TypeAheadMatcher {
+
+    /** The candidates by id. */
+    private final String[] candidates;
+    /** The trie node ending each candidate, by id. */
+    private final int[] candidateNode;
+    /** Ids of the candidates ending at node {@code i} are {@code nodeIds[idStart[i]]} to {@code nodeIds[idStart[i + 1] - 1]}. */
+    private final int[] idStart;
+    private final int[] nodeIds;
+    /** Char leading to each trie node, nodes being numbered in preorder from the root at 0. */
+    private final char[] label;
+    /** Parent of each trie node, -1 for the root. */
+    private final int[] parent;
+    /** Depth of each trie node, the length of its prefix. */
+    private final int[] depth;
+    /** End of each trie node's subtree, its descendants being the nodes after it up to there. */
+    private final int[] subtreeEnd;
+    /** The greatest distance of interest. */
+    private final int maxDistance;
+
+    /** The query typed so far. */
+    private final StringBuilder query = new StringBuilder();
+    /**
+     * Live nodes per row, ascending, row {@code i} being for the first {@code i} query chars
+     * and holding nodes at most {@code i + maxDistance} deep.
+     */
+    private int[][] rowNodes = new int[16][];
+    /** Distance from the row's query prefix to the path of each live node. */
+    private int[][] rowValues = new int[16][];
+    /** Smallest value on the path to each live node. */
+    private int[][] rowPathMins = new int[16][];
+    /** Number of live nodes per row. */
+    private int[] rowSizes = new int[16];
+
+    /** Per node scratch for the row being computed, read only for parents written earlier in the same pass. */
+    private final int[] previousValue;
+    private final int[] currentValue;
+    private final int[] currentPathMin;
+    /** Per node mark of the nodes kept in the row being computed. */
+    private final int[] keptIn;
+    /** Incremented per computed row, so {@link #keptIn} is never cleared. */
+    private int generation;
+
+    /**
+     * <p>Creates a matcher with an empty query.</p>
+     *
+     * @param candidates  the CharSequences to match, each getting its position in iteration order as id,
+     *  not null and without null elements
+     * @param maxDistance  the greatest distance of interest, not negative
+     * @throws NullPointerException if {@code candidates} or any of them is null
+     * @throws IllegalArgumentException if {@code maxDistance} is negative
+     */
+    public TypeAheadMatcher(final Collection<? extends CharSequence> candidates, final int maxDistance) {
+        Validate.notNull(candidates, "candidates");
+        Validate.isTrue(maxDistance >= 0, "Distance must not be negative");
+        this.maxDistance = maxDistance;
+        final int count = candidates.size();
+        this.candidates = new String[count];
+        int i = 0;
+        for (final CharSequence candidate : candidates) {
+            Validate.notNull(candidate, "candidate");
+            this.candidates[i++] = candidate.toString();
+        }
+        // sorted candidates give the trie nodes in preorder, each new node extending the longest common prefix
+        final Integer[] order = new Integer[count];
+        for (int id = 0; id < count; id++) {
+            order[id] = id;
+        }
+        Arrays.sort(order, (a, b) -> this.candidates[a].compareTo(this.candidates[b]));
+        long capacity = 1;
+        for (final String candidate : this.candidates) {
+            capacity += candidate.length();
+        }
+        Validate.isTrue(capacity <= Integer.MAX_VALUE, "Candidates too long to match: %d chars", capacity);
+        char[] labels = new char[(int) Math.min(capacity, 1024)];
+        int[] parents = new int[labels.length];
+        parents[0] = -1;
+        int nodes = 1;
+        int[] path = new int[16];
+        candidateNode = new int[count];
+        String previous = "";
+        for (final int id : order) {
+            final String candidate = this.candidates[id];
+            int common = 0;
+            while (common < previous.length() && common < candidate.length()
+                && previous.charAt(common) == candidate.charAt(common)) {
+                common++;
+            }
+            if (path.length <= candidate.length()) {
+                path = Arrays.copyOf(path, Math.max(path.length << 1, candidate.length() + 1));
+            }
+            for (int level = common; level < candidate.length(); level++) {
+                if (nodes == labels.length) {
+                    labels = Arrays.copyOf(labels, (int) Math.min(capacity, (long) nodes << 1));
+                    parents = Arrays.copyOf(parents, labels.length);
+                }
+                labels[nodes] = candidate.charAt(level);
+                parents[nodes] = path[level];
+                path[level + 1] = nodes++;
+            }
+            candidateNode[id] = path[candidate.length()];
+            previous = candidate;
+        }
+        label = Arrays.copyOf(labels, nodes);
+        parent = Arrays.copyOf(parents, nodes);
+        idStart = new int[nodes + 1];
+        for (final int node : candidateNode) {
+            idStart[node + 1]++;
+        }
+        for (int node = 0; node < nodes; node++) {
+            idStart[node + 1] += idStart[node];
+        }
+        nodeIds = new int[count];
+        final int[] filled = Arrays.copyOf(idStart, nodes);
+        for (int id = 0; id < count; id++) {
+            nodeIds[filled[candidateNode[id]]++] = id;
+        }
+        previousValue = new int[nodes];
+        currentValue = new int[nodes];
+        currentPathMin = new int[nodes];
+        keptIn = new int[nodes];
+        depth = new int[nodes];
+        subtreeEnd = new int[nodes];
+        for (int node = 1; node < nodes; node++) {
+            depth[node] = depth[parent[node]] + 1;
+        }
+        for (int node = nodes - 1; node >= 0; node--) {
+            subtreeEnd[node] = Math.max(subtreeEnd[node], node + 1);
+            if (node > 0) {
+                subtreeEnd[parent[node]] = Math.max(subtreeEnd[parent[node]], subtreeEnd[node]);
+            }
+        }
+        // row 0, the empty query, is as far from each node as the node is deep
+        int size = 0;
+        for (int node = 0; node < nodes; node++) {
+            if (depth[node] <= maxDistance) {
+                size++;
+            }
+        }
+        rowNodes[0] = new int[size];
+        rowValues[0] = new int[size];
+        rowPathMins[0] = new int[size];
+        size = 0;
+        for (int node = 0; node < nodes; node++) {
+            if (depth[node] <= maxDistance) {
+                rowNodes[0][size] = node;
+                rowValues[0][size++] = depth[node];
+            }
+        }
+        rowSizes[0] = size;
+    }
+
+    /**
+     * <p>Gets a candidate.</p>
+     *
+     * @param id  the id of the candidate
+     * @return the candidate, {@code null} if there is none with that id
+     */
+    public String get(final int id) {
+        return id < 0 || id >= candidates.length ? null : candidates[id];
+    }
+
+    /**
+     * <p>Gets the number of candidates.</p>
+     *
+     * @return the number of candidates
+     */
+    public int size() {
+        return candidates.length;
+    }
+
+    /**
+     * <p>Gets the greatest distance of interest.</p>
+     *
+     * @return the maximum distance
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * <p>Gets the query typed so far.</p>
+     *
+     * @return the query, empty initially
+     */
+    public String getQuery() {
+        return query.toString();
+    }
+
+    /**
+     * <p>Appends a char to the query, computing one row.</p>
+     *
+     * @param ch  the char typed
+     */
+    public void append(final char ch) {
+        final int row = query.length();
+        query.append(ch);
+        ensureRow(row + 1);
+        final int[] nodes = rowNodes[row];
+        final int[] values = rowValues[row];
+        final int size = rowSizes[row];
+        // nodes this deep join the row, below a node at the edge of the previous one
+        final int edge = row + maxDistance;
+        // the live nodes of a row are a subtree, so every parent comes before its children
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            final int node = nodes[i];
+            final int value = values[i];
+            previousValue[node] = value;
+            if (node == 0) {
+                currentValue[node] = row + 1;
+                currentPathMin[node] = row + 1;
+            } else {
+                step(node, value, ch);
+            }
+            count = push(row + 1, count, node);
+            if (depth[node] == edge) {
+                // not in the previous row, so further from it than the maximum distance
+                final int outside = maxDistance + 1;
+                for (int child = node + 1; child < subtreeEnd[node]; child = subtreeEnd[child]) {
+                    step(child, outside, ch);
+                    count = push(row + 1, count, child);
+                }
+            }
+        }
+        // keep the nodes with a candidate still within reach at or below them
+        final int[] nextNodes = rowNodes[row + 1];
+        final int kept = ++generation;
+        for (int i = count - 1; i >= 0; i--) {
+            final int node = nextNodes[i];
+            if (keptIn[node] == kept || currentPathMin[node] <= maxDistance
+                && (depth[node] == edge + 1 || idStart[node] < idStart[node + 1])) {
+                keptIn[node] = kept;
+                if (node != 0) {
+                    keptIn[parent[node]] = kept;
+                }
+            }
+        }
+        final int[] nextValues = rowValues[row + 1];
+        final int[] nextPathMins = rowPathMins[row + 1];
+        int live = 0;
+        for (int i = 0; i < count; i++) {
+            final int node = nextNodes[i];
+            if (keptIn[node] == kept) {
+                nextNodes[live] = node;
+                nextValues[live] = currentValue[node];
+                nextPathMins[live++] = currentPathMin[node];
+            }
+        }
+        rowSizes[row + 1] = live;
+    }
+
+    /**
+     * Computes the value of a node in the new row, its parent's being done.
+     */
+    private void step(final int node, final int previous, final char ch) {
+        final int up = parent[node];
+        final int value = Math.min(Math.min(previous, currentValue[up]) + 1,
+            previousValue[up] + (label[node] == ch ? 0 : 1));
+        currentValue[node] = value;
+        currentPathMin[node] = Math.min(currentPathMin[up], value);
+    }
+
+    /**
+     * Adds a node to a row being computed, growing it as needed.
+     *
+     * @return the new number of nodes in the row
+     */
+    private int push(final int row, final int count, final int node) {
+        if (count == rowNodes[row].length) {
+            final int capacity = Math.max(count << 1, 16);
+            rowNodes[row] = Arrays.copyOf(rowNodes[row], capacity);
+            rowValues[row] = Arrays.copyOf(rowValues[row], capacity);
+            rowPathMins[row] = Arrays.copyOf(rowPathMins[row], capacity);
+        }
+        rowNodes[row][count] = node;
+        return count + 1;
+    }
+
+    /**
+     * <p>Appends chars to the query, computing one row per char.</p>
+     *
+     * @param chars  the chars typed, not null
+     * @throws NullPointerException if {@code chars} is null
+     */
+    public void append(final CharSequence chars) {
+        Validate.notNull(chars, "chars");
+        for (int i = 0; i < chars.length(); i++) {
+            append(chars.charAt(i));
+        }
+    }
+
+    /**
+     * <p>Deletes the last char of the query, going back to the previous row.</p>
+     *
+     * @return {@code false} if the query was already empty
+     */
+    public boolean deleteLast() {
+        if (query.length() == 0) {
+            return false;
+        }
+        query.setLength(query.length() - 1);
+        return true;
+    }
+
+    /**
+     * <p>Changes the query, keeping the rows of the part it shares with the current one.</p>
+     *
+     * <p>Suits callers that get the whole text of an input field on every change.</p>
+     *
+     * @param text  the new query, not null
+     * @throws NullPointerException if {@code text} is null
+     */
+    public void setQuery(final CharSequence text) {
+        Validate.notNull(text, "text");
+        int common = 0;
+        while (common < query.length() && common < text.length() && query.charAt(common) == text.charAt(common)) {
+            common++;
+        }
+        query.setLength(common);
+        for (int i = common; i < text.length(); i++) {
+            append(text.charAt(i));
+        }
+    }
+
+    /**
+     * <p>Empties the query.</p>
+     */
+    public void clear() {
+        query.setLength(0);
+    }
+
+    /**
+     * <p>Finds the candidates within the maximum distance of the query.</p>
+     *
+     * @return the ascending ids of the candidates within the maximum distance, empty if none
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)
+     */
+    public int[] matches() {
+        return collect(rowValues[query.length()], false);
+    }
+
+    /**
+     * <p>Finds the candidates with a prefix within the maximum distance of the query, such
+     * as the candidates the user may be part way through typing.</p>
+     *
+     * @return the ascending ids of the candidates with a prefix within the maximum distance, empty if none
+     */
+    public int[] prefixMatches() {
+        return collect(rowPathMins[query.length()], true);
+    }
+
+    /**
+     * <p>Gets the Levenshtein distance from the query to a candidate if it is at most the
+     * maximum distance.</p>
+     *
+     * @param id  the id of the candidate
+     * @return the distance, or -1 if it is greater than the maximum distance or there is no such candidate
+     * @see StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)
+     */
+    public int distance(final int id) {
+        return lookup(id, rowValues[query.length()]);
+    }
+
+    /**
+     * <p>Gets the smallest Levenshtein distance from the query to a prefix of a candidate
+     * if it is at most the maximum distance.</p>
+     *
+     * @param id  the id of the candidate
+     * @return the distance, or -1 if it is greater than the maximum distance or there is no such candidate
+     */
+    public int prefixDistance(final int id) {
+        return lookup(id, rowPathMins[query.length()]);
+    }
+
+    private int lookup(final int id, final int[] values) {
+        if (id < 0 || id >= candidates.length) {
+            return -1;
+        }
+        final int row = query.length();
+        int node = candidateNode[id];
+        if (values == rowPathMins[row]) {
+            // a node deeper than the row shares the path minimum of its deepest ancestor in it
+            while (depth[node] > row + maxDistance) {
+                node = parent[node];
+            }
+        }
+        final int i = Arrays.binarySearch(rowNodes[row], 0, rowSizes[row], node);
+        return i < 0 || values[i] > maxDistance ? -1 : values[i];
+    }
+
+    /**
+     * Gets the ids of the candidates ending at a live node of the current row with a value
+     * within the maximum distance, or below one at the edge of the row if {@code subtrees}.
+     */
+    private int[] collect(final int[] values, final boolean subtrees) {
+        final int row = query.length();
+        final int[] nodes = rowNodes[row];
+        final int edge = row + maxDistance;
+        int[] found = ArrayUtils.EMPTY_INT_ARRAY;
+        int count = 0;
+        for (int i = 0, size = rowSizes[row]; i < size; i++) {
+            if (values[i] <= maxDistance) {
+                final int node = nodes[i];
+                final int from = idStart[node];
+                final int to = idStart[subtrees && depth[node] == edge ? subtreeEnd[node] : node + 1];
+                if (count + to - from > found.length) {
+                    found = Arrays.copyOf(found, Math.max(count + to - from, found.length << 1));
+                }
+                System.arraycopy(nodeIds, from, found, count, to - from);
+                count += to - from;
+            }
+        }
+        final int[] ids = Arrays.copyOf(found, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Makes room for a row, at least as large as the previous one.
+     */
+    private void ensureRow(final int row) {
+        if (row == rowSizes.length) {
+            rowNodes = Arrays.copyOf(rowNodes, row << 1);
+            rowValues = Arrays.copyOf(rowValues, row << 1);
+            rowPathMins = Arrays.copyOf(rowPathMins, row << 1);
+            rowSizes = Arrays.copyOf(rowSizes, row << 1);
+        }
+        final int size = Math.max(rowSizes[row - 1], 16);
+        if (rowNodes[row] == null || rowNodes[row].length < size) {
+            rowNodes[row] = new int[size];
+            rowValues[row] = new int[size];
+            rowPathMins[row] = new int[size];
+        }
+    }
+}
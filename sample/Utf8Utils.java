@@ -0,0 +1,585 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Operations on UTF-8 encoded text held in a {@code byte[]} or a {@link ByteBuffer},
+ * without decoding it to a String first.</p>
+ *
+ * <p>Each method gives the same answer as the {@link StringUtils} method of the
+ * same name applied to the decoded text, for well-formed UTF-8. Malformed
+ * sequences never match a search string, are neither whitespace nor digits and
+ * are never equal to a CharSequence. ASCII bytes are handled without decoding,
+ * ASCII search strings are compared without encoding them.</p>
+ *
+ * <p>Indexes are byte indexes into the array, or absolute indexes into the buffer.
+ * Buffers are read between their position and limit, neither of which is changed.
+ * A buffer that is not backed by an accessible array is copied into a per-thread
+ * scratch array.</p>
+ *
+ * <p>{@code null} input is handled quietly as in {@link StringUtils}.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+public class Utf8Utils {
+
+    /** Per-thread copy of direct and read-only buffers. */
+    private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<>();
+
+    /**
+     * <p>{@code Utf8Utils} instances should NOT be constructed in
+     * standard programming.</p>
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean
+     * instance to operate.</p>
+     */
+    public Utf8Utils() {
+        super();
+    }
+
+    // Contains
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Checks if UTF-8 bytes contain a search CharSequence, handling {@code null}.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return true if the bytes contain the search CharSequence,
+     *  false if not or {@code null} input
+     * @see StringUtils#contains(CharSequence, CharSequence)
+     */
+    public static boolean contains(final byte[] bytes, final CharSequence searchSeq) {
+        return indexOf(bytes, searchSeq) >= 0;
+    }
+
+    /**
+     * <p>Checks if a range of UTF-8 bytes contains a search CharSequence, handling {@code null}.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return true if the range contains the search CharSequence,
+     *  false if not or {@code null} input
+     * @throws IndexOutOfBoundsException if the range is not within {@code bytes}
+     * @see StringUtils#contains(CharSequence, CharSequence)
+     */
+    public static boolean contains(final byte[] bytes, final int offset, final int length, final CharSequence searchSeq) {
+        return indexOf(bytes, offset, length, searchSeq) >= 0;
+    }
+
+    /**
+     * <p>Checks if the remaining UTF-8 bytes of a buffer contain a search CharSequence,
+     * handling {@code null}.</p>
+     *
+     * @param buffer  the UTF-8 bytes to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return true if the buffer contains the search CharSequence,
+     *  false if not or {@code null} input
+     * @see StringUtils#contains(CharSequence, CharSequence)
+     */
+    public static boolean contains(final ByteBuffer buffer, final CharSequence searchSeq) {
+        return indexOf(buffer, searchSeq) >= 0;
+    }
+
+    // Count matches
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Counts how many times the substring appears in UTF-8 bytes.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param sub  the substring to count, may be null
+     * @return the number of non-overlapping occurrences, 0 if either input is {@code null}
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static int countMatches(final byte[] bytes, final CharSequence sub) {
+        return bytes == null ? 0 : countMatches(bytes, 0, bytes.length, sub);
+    }
+
+    /**
+     * <p>Counts how many times the substring appears in a range of UTF-8 bytes.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @param sub  the substring to count, may be null
+     * @return the number of non-overlapping occurrences, 0 if either input is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within {@code bytes}
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static int countMatches(final byte[] bytes, final int offset, final int length, final CharSequence sub) {
+        if (bytes == null || StringUtils.isEmpty(sub)) {
+            return 0;
+        }
+        checkRange(bytes, offset, length);
+        final int end = offset + length;
+        int count = 0;
+        int idx = offset;
+        if (isAscii(sub)) {
+            while ((idx = indexOfAscii(bytes, idx, end, sub)) != StringUtils.INDEX_NOT_FOUND) {
+                count++;
+                idx += sub.length();
+            }
+            return count;
+        }
+        final byte[] needle = encode(sub);
+        if (needle == null) {
+            return 0;
+        }
+        while ((idx = indexOf(bytes, idx, end, needle)) != StringUtils.INDEX_NOT_FOUND) {
+            count++;
+            idx += needle.length;
+        }
+        return count;
+    }
+
+    /**
+     * <p>Counts how many times the substring appears in the remaining UTF-8 bytes of a buffer.</p>
+     *
+     * @param buffer  the UTF-8 bytes to check, may be null
+     * @param sub  the substring to count, may be null
+     * @return the number of non-overlapping occurrences, 0 if either input is {@code null}
+     * @see StringUtils#countMatches(CharSequence, CharSequence)
+     */
+    public static int countMatches(final ByteBuffer buffer, final CharSequence sub) {
+        if (buffer == null) {
+            return 0;
+        }
+        return countMatches(array(buffer), arrayIndex(buffer), buffer.remaining(), sub);
+    }
+
+    // Equals
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Compares UTF-8 bytes to a CharSequence, ignoring case.</p>
+     *
+     * @param bytes  the UTF-8 bytes, may be null
+     * @param cs  the CharSequence, may be null
+     * @return {@code true} if the decoded bytes equal the CharSequence ignoring case,
+     *  or both are {@code null}
+     * @see StringUtils#equalsIgnoreCase(CharSequence, CharSequence)
+     */
+    public static boolean equalsIgnoreCase(final byte[] bytes, final CharSequence cs) {
+        if (bytes == null) {
+            return cs == null;
+        }
+        return equalsIgnoreCase(bytes, 0, bytes.length, cs);
+    }
+
+    /**
+     * <p>Compares a range of UTF-8 bytes to a CharSequence, ignoring case.</p>
+     *
+     * @param bytes  the UTF-8 bytes, may be null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @param cs  the CharSequence, may be null
+     * @return {@code true} if the decoded range equals the CharSequence ignoring case,
+     *  or both are {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within {@code bytes}
+     * @see StringUtils#equalsIgnoreCase(CharSequence, CharSequence)
+     */
+    public static boolean equalsIgnoreCase(final byte[] bytes, final int offset, final int length, final CharSequence cs) {
+        if (bytes == null || cs == null) {
+            return bytes == null && cs == null;
+        }
+        checkRange(bytes, offset, length);
+        final int csLen = cs.length();
+        // every char takes at least one and at most three bytes
+        if (csLen > length || (long) csLen * 3 < length) {
+            return false;
+        }
+        final int end = offset + length;
+        int i = offset;
+        int j = 0;
+        // ASCII against ASCII folds exactly, anything else is compared as decoded
+        while (i < end && bytes[i] >= 0 && j < csLen && cs.charAt(j) < 128) {
+            if (Searcher.IgnoreCaseHorspool.fold((char) bytes[i]) != Searcher.IgnoreCaseHorspool.fold(cs.charAt(j))) {
+                return false;
+            }
+            i++;
+            j++;
+        }
+        if (i == end || j == csLen) {
+            return i == end && j == csLen;
+        }
+        final StringBuilder rest = new StringBuilder(end - i);
+        while (i < end) {
+            final byte b = bytes[i];
+            if (b >= 0) {
+                rest.append((char) b);
+                i++;
+                continue;
+            }
+            final int cp = decode(bytes, i, end);
+            if (cp < 0) {
+                return false;
+            }
+            rest.appendCodePoint(cp);
+            i += sequenceLength(b);
+        }
+        return rest.length() == csLen - j
+            && CharSequenceUtils.regionMatches(rest.toString(), true, 0, cs, j, rest.length());
+    }
+
+    /**
+     * <p>Compares the remaining UTF-8 bytes of a buffer to a CharSequence, ignoring case.</p>
+     *
+     * @param buffer  the UTF-8 bytes, may be null
+     * @param cs  the CharSequence, may be null
+     * @return {@code true} if the decoded bytes equal the CharSequence ignoring case,
+     *  or both are {@code null}
+     * @see StringUtils#equalsIgnoreCase(CharSequence, CharSequence)
+     */
+    public static boolean equalsIgnoreCase(final ByteBuffer buffer, final CharSequence cs) {
+        if (buffer == null) {
+            return cs == null;
+        }
+        return equalsIgnoreCase(array(buffer), arrayIndex(buffer), buffer.remaining(), cs);
+    }
+
+    // IndexOf
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first byte index of a CharSequence within UTF-8 bytes, handling {@code null}.</p>
+     *
+     * <p>An empty ("") search CharSequence always matches at index 0.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the byte index of the first match, -1 if no match or {@code null} input
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static int indexOf(final byte[] bytes, final CharSequence searchSeq) {
+        return bytes == null ? StringUtils.INDEX_NOT_FOUND : indexOf(bytes, 0, bytes.length, searchSeq);
+    }
+
+    /**
+     * <p>Finds the first byte index of a CharSequence within a range of UTF-8 bytes,
+     * handling {@code null}.</p>
+     *
+     * <p>An empty ("") search CharSequence always matches at {@code offset}.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the index into {@code bytes} of the first match, -1 if no match or {@code null} input
+     * @throws IndexOutOfBoundsException if the range is not within {@code bytes}
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static int indexOf(final byte[] bytes, final int offset, final int length, final CharSequence searchSeq) {
+        if (bytes == null || searchSeq == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        checkRange(bytes, offset, length);
+        if (isAscii(searchSeq)) {
+            return indexOfAscii(bytes, offset, offset + length, searchSeq);
+        }
+        final byte[] needle = encode(searchSeq);
+        if (needle == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        return indexOf(bytes, offset, offset + length, needle);
+    }
+
+    /**
+     * <p>Finds the first absolute index of a CharSequence within the remaining UTF-8 bytes
+     * of a buffer, handling {@code null}.</p>
+     *
+     * <p>An empty ("") search CharSequence always matches at the buffer's position.</p>
+     *
+     * @param buffer  the UTF-8 bytes to check, may be null
+     * @param searchSeq  the CharSequence to find, may be null
+     * @return the absolute index of the first match, -1 if no match or {@code null} input
+     * @see StringUtils#indexOf(CharSequence, CharSequence)
+     */
+    public static int indexOf(final ByteBuffer buffer, final CharSequence searchSeq) {
+        if (buffer == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final int arrayIndex = arrayIndex(buffer);
+        final int found = indexOf(array(buffer), arrayIndex, buffer.remaining(), searchSeq);
+        return found < 0 ? found : found - arrayIndex + buffer.position();
+    }
+
+    // Character Tests
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Checks if UTF-8 bytes are empty, null or whitespace only.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @return {@code true} if the bytes are null, empty or whitespace only
+     * @see StringUtils#isBlank(CharSequence)
+     */
+    public static boolean isBlank(final byte[] bytes) {
+        return bytes == null || isBlank(bytes, 0, bytes.length);
+    }
+
+    /**
+     * <p>Checks if a range of UTF-8 bytes is empty, null or whitespace only.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @return {@code true} if the bytes are null, or the range is empty or whitespace only
+     * @throws IndexOutOfBoundsException if the range is not within {@code bytes}
+     * @see StringUtils#isBlank(CharSequence)
+     */
+    public static boolean isBlank(final byte[] bytes, final int offset, final int length) {
+        if (bytes == null) {
+            return true;
+        }
+        checkRange(bytes, offset, length);
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            final byte b = bytes[i];
+            if (b >= 0) {
+                if (!Character.isWhitespace((char) b)) {
+                    return false;
+                }
+                i++;
+                continue;
+            }
+            final int cp = decode(bytes, i, end);
+            // supplementary chars decode to surrogates, which are never whitespace
+            if (cp < 0 || cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT || !Character.isWhitespace(cp)) {
+                return false;
+            }
+            i += sequenceLength(b);
+        }
+        return true;
+    }
+
+    /**
+     * <p>Checks if the remaining UTF-8 bytes of a buffer are empty, null or whitespace only.</p>
+     *
+     * @param buffer  the UTF-8 bytes to check, may be null
+     * @return {@code true} if the buffer is null, or has no remaining or only whitespace bytes
+     * @see StringUtils#isBlank(CharSequence)
+     */
+    public static boolean isBlank(final ByteBuffer buffer) {
+        return buffer == null || isBlank(array(buffer), arrayIndex(buffer), buffer.remaining());
+    }
+
+    /**
+     * <p>Checks if UTF-8 bytes contain only Unicode digits.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @return {@code true} if only contains digits, and is non-null and non-empty
+     * @see StringUtils#isNumeric(CharSequence)
+     */
+    public static boolean isNumeric(final byte[] bytes) {
+        return bytes != null && isNumeric(bytes, 0, bytes.length);
+    }
+
+    /**
+     * <p>Checks if a range of UTF-8 bytes contains only Unicode digits.</p>
+     *
+     * @param bytes  the UTF-8 bytes to check, may be null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @return {@code true} if only contains digits, and is non-null and non-empty
+     * @throws IndexOutOfBoundsException if the range is not within {@code bytes}
+     * @see StringUtils#isNumeric(CharSequence)
+     */
+    public static boolean isNumeric(final byte[] bytes, final int offset, final int length) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, offset, length);
+        if (length == 0) {
+            return false;
+        }
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            final byte b = bytes[i];
+            if (b >= 0) {
+                if (b < '0' || b > '9') {
+                    return false;
+                }
+                i++;
+                continue;
+            }
+            final int cp = decode(bytes, i, end);
+            // supplementary chars decode to surrogates, which are never digits
+            if (cp < 0 || cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT || !Character.isDigit(cp)) {
+                return false;
+            }
+            i += sequenceLength(b);
+        }
+        return true;
+    }
+
+    /**
+     * <p>Checks if the remaining UTF-8 bytes of a buffer contain only Unicode digits.</p>
+     *
+     * @param buffer  the UTF-8 bytes to check, may be null
+     * @return {@code true} if only contains digits, and is non-null and non-empty
+     * @see StringUtils#isNumeric(CharSequence)
+     */
+    public static boolean isNumeric(final ByteBuffer buffer) {
+        return buffer != null && isNumeric(array(buffer), arrayIndex(buffer), buffer.remaining());
+    }
+
+    // Internals
+    //-----------------------------------------------------------------------
+    private static byte[] array(final ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return buffer.array();
+        }
+        final int remaining = buffer.remaining();
+        byte[] scratch = SCRATCH.get();
+        if (scratch == null || scratch.length < remaining) {
+            scratch = new byte[Math.max(remaining, 1024)];
+            SCRATCH.set(scratch);
+        }
+        buffer.duplicate().get(scratch, 0, remaining);
+        return scratch;
+    }
+
+    private static int arrayIndex(final ByteBuffer buffer) {
+        return buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : 0;
+    }
+
+    private static void checkRange(final byte[] bytes, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                + ") out of bounds for length " + bytes.length);
+        }
+    }
+
+    /**
+     * Decodes the multi-byte sequence starting at {@code i}.
+     *
+     * @return the code point, or -1 if the sequence is malformed
+     */
+    private static int decode(final byte[] bytes, final int i, final int end) {
+        final int b0 = bytes[i] & 0xFF;
+        final int len = sequenceLength(bytes[i]);
+        if (len == 0 || i + len > end) {
+            return -1;
+        }
+        int cp = b0 & (0x7F >> len);
+        for (int k = 1; k < len; k++) {
+            final int b = bytes[i + k];
+            if ((b & 0xC0) != 0x80) {
+                return -1;
+            }
+            cp = cp << 6 | b & 0x3F;
+        }
+        // reject overlong forms, surrogates and values past the last code point
+        if (len == 3 && (cp < 0x800 || cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE)
+                || len == 4 && (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT || cp > Character.MAX_CODE_POINT)) {
+            return -1;
+        }
+        return cp;
+    }
+
+    /**
+     * Gets the number of bytes of the sequence with the given non-ASCII lead byte, 0 if invalid.
+     */
+    private static int sequenceLength(final byte lead) {
+        final int b = lead & 0xFF;
+        if (b >= 0xC2 && b <= 0xDF) {
+            return 2;
+        }
+        if (b >= 0xE0 && b <= 0xEF) {
+            return 3;
+        }
+        if (b >= 0xF0 && b <= 0xF4) {
+            return 4;
+        }
+        return 0;
+    }
+
+    /**
+     * Encodes a search string, or returns null if it has an unpaired surrogate,
+     * which well-formed UTF-8 cannot contain.
+     */
+    static byte[] encode(final CharSequence cs) {
+        final int len = cs.length();
+        for (int i = 0; i < len; i++) {
+            final char ch = cs.charAt(i);
+            if (Character.isHighSurrogate(ch)) {
+                if (i + 1 == len || !Character.isLowSurrogate(cs.charAt(i + 1))) {
+                    return null;
+                }
+                i++;
+            } else if (Character.isLowSurrogate(ch)) {
+                return null;
+            }
+        }
+        return cs.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isAscii(final CharSequence cs) {
+        final int len = cs.length();
+        for (int i = 0; i < len; i++) {
+            if (cs.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfAscii(final byte[] bytes, final int from, final int end, final CharSequence needle) {
+        final int m = needle.length();
+        if (m == 0) {
+            return from;
+        }
+        final byte first = (byte) needle.charAt(0);
+        final int max = end - m;
+        for (int i = from; i <= max; i++) {
+            if (bytes[i] != first) {
+                continue;
+            }
+            int k = 1;
+            while (k < m && bytes[i + k] == needle.charAt(k)) {
+                k++;
+            }
+            if (k == m) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    private static int indexOf(final byte[] bytes, final int from, final int end, final byte[] needle) {
+        final int m = needle.length;
+        final byte first = needle[0];
+        final int max = end - m;
+        for (int i = from; i <= max; i++) {
+            if (bytes[i] != first) {
+                continue;
+            }
+            int k = 1;
+            while (k < m && bytes[i + k] == needle[k]) {
+                k++;
+            }
+            if (k == m) {
+                return i;
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+}
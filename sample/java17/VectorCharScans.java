@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>{@link CharScans} on top of the Vector API.</p>
+ *
+ * <p>This class is part of the Java 17 sources of the multi-release jar and needs
+ * {@code --add-modules jdk.incubator.vector} both to compile and to be loaded. It uses
+ * {@code ShortVector.fromCharArray}, which the incubator module only has from JDK 17.
+ * Chars are copied out of the sequence in chunks into a per-thread buffer, then
+ * compared a full vector at a time. A vector with a candidate lane, or with a
+ * non-ASCII lane where the predicate depends on {@link Character}, is rechecked
+ * char by char, so results are identical to the scalar loops.</p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.11
+ */
+final class VectorCharScans extends CharScans {
+
+    /** The widest shape the platform supports. */
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    /** Chars copied out of the sequence at a time. */
+    private static final int CHUNK = 1024;
+
+    /** Per-thread copy buffer, so scans do not allocate. */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[CHUNK]);
+
+    /**
+     * Computes the lanes that may hold a char of the given kind, a superset of the exact answer.
+     */
+    private static VectorMask<Short> candidates(final ShortVector v, final int kind, final char ch) {
+        switch (kind) {
+        case CHAR:
+            return v.eq((short) ch);
+        case NOT_WHITESPACE:
+            return nonAscii(v).or(asciiWhitespace(v).not());
+        case WHITESPACE:
+            return nonAscii(v).or(asciiWhitespace(v));
+        case NOT_DIGIT:
+            // lanes of 0x8000 and above are negative and land below '0'
+            return v.lt((short) '0').or(v.compare(VectorOperators.GT, (short) '9'));
+        default:
+            return v.lt((short) 32).or(v.compare(VectorOperators.GT, (short) 126));
+        }
+    }
+
+    private static VectorMask<Short> nonAscii(final ShortVector v) {
+        return v.and((short) 0xFF80).compare(VectorOperators.NE, (short) 0);
+    }
+
+    private static VectorMask<Short> asciiWhitespace(final ShortVector v) {
+        // Character.isWhitespace for ASCII: \t \n \u000B \f \r, FS GS RS US, space
+        final VectorMask<Short> control = v.compare(VectorOperators.GE, (short) 9)
+            .and(v.compare(VectorOperators.LE, (short) 13));
+        final VectorMask<Short> separators = v.compare(VectorOperators.GE, (short) 28)
+            .and(v.compare(VectorOperators.LE, (short) 32));
+        return control.or(separators);
+    }
+
+    @Override
+    int find(final CharSequence cs, final int from, final int kind, final char ch) {
+        final char[] buf = BUFFER.get();
+        final int len = cs.length();
+        final int step = SPECIES.length();
+        for (int base = from; base < len; base += CHUNK) {
+            final int n = Math.min(CHUNK, len - base);
+            getChars(cs, base, base + n, buf);
+            final int bound = SPECIES.loopBound(n);
+            int i = 0;
+            for (; i < bound; i += step) {
+                final VectorMask<Short> hits = candidates(ShortVector.fromCharArray(SPECIES, buf, i), kind, ch);
+                if (hits.anyTrue()) {
+                    final int end = i + step;
+                    for (int j = i + hits.firstTrue(); j < end; j++) {
+                        if (test(kind, buf[j], ch)) {
+                            return base + j;
+                        }
+                    }
+                }
+            }
+            for (; i < n; i++) {
+                if (test(kind, buf[i], ch)) {
+                    return base + i;
+                }
+            }
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    @Override
+    int countMatches(final CharSequence cs, final char ch) {
+        final char[] buf = BUFFER.get();
+        final int len = cs.length();
+        final short key = (short) ch;
+        int count = 0;
+        for (int base = 0; base < len; base += CHUNK) {
+            final int n = Math.min(CHUNK, len - base);
+            getChars(cs, base, base + n, buf);
+            final int bound = SPECIES.loopBound(n);
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                count += ShortVector.fromCharArray(SPECIES, buf, i).eq(key).trueCount();
+            }
+            for (; i < n; i++) {
+                if (buf[i] == ch) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}